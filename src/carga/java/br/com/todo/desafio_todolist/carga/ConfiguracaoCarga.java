@@ -0,0 +1,81 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+// Padrões de carga.properties sobrescritos pelos argumentos chave=valor (ou --chave=valor)
+final class ConfiguracaoCarga {
+
+    private static final String PREFIXO_SLO = "slo.";
+
+    private final Properties valores = new Properties();
+
+    private ConfiguracaoCarga() {
+    }
+
+    static ConfiguracaoCarga de(String[] argumentos) {
+        ConfiguracaoCarga configuracao = new ConfiguracaoCarga();
+        try (InputStream padroes = ConfiguracaoCarga.class.getResourceAsStream("/carga.properties")) {
+            configuracao.valores.load(padroes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        for (String argumento : argumentos) {
+            String semPrefixo = argumento.startsWith("--") ? argumento.substring(2) : argumento;
+            int separador = semPrefixo.indexOf('=');
+            if (separador <= 0) {
+                throw new IllegalArgumentException("Argumento inválido (use chave=valor): " + argumento);
+            }
+            configuracao.valores.setProperty(semPrefixo.substring(0, separador), semPrefixo.substring(separador + 1));
+        }
+        return configuracao;
+    }
+
+    String texto(String chave) {
+        String valor = valores.getProperty(chave);
+        if (valor == null) {
+            throw new IllegalArgumentException("Configuração ausente: " + chave);
+        }
+        return valor.trim();
+    }
+
+    int inteiro(String chave) {
+        return Integer.parseInt(texto(chave));
+    }
+
+    double fracao(String chave) {
+        return Double.parseDouble(texto(chave));
+    }
+
+    Duration duracao(String chave) {
+        return Duration.parse(texto(chave));
+    }
+
+    // "listar:40,alterarStatus:25" -> pesos por operação; operações ausentes não são executadas
+    Map<OperacaoCarga, Integer> mix() {
+        Map<OperacaoCarga, Integer> pesos = new EnumMap<>(OperacaoCarga.class);
+        for (String item : texto("mix").split(",")) {
+            String[] partes = item.trim().split(":");
+            pesos.put(OperacaoCarga.fromNome(partes[0].trim()), Integer.parseInt(partes[1].trim()));
+        }
+        return pesos;
+    }
+
+    // Chaves slo.* sem o prefixo, em ordem alfabética para o relatório
+    Map<String, Double> slos() {
+        Map<String, Double> slos = new TreeMap<>();
+        for (String chave : valores.stringPropertyNames()) {
+            String valor = valores.getProperty(chave).trim();
+            if (chave.startsWith(PREFIXO_SLO) && !valor.isEmpty()) {
+                slos.put(chave.substring(PREFIXO_SLO.length()), Double.parseDouble(valor));
+            }
+        }
+        return slos;
+    }
+}
@@ -0,0 +1,154 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Latências de cada requisição da fase medida, por operação. Os percentis são exatos (amostras ordenadas);
+// respostas com status de erro contam como requisição e como erro.
+final class EstatisticasCarga {
+
+    static final String TOTAL = "total";
+    private static final double[] PERCENTIS = {0.50, 0.99, 0.999};
+    private static final String[] NOMES_PERCENTIS = {"p50", "p99", "p999"};
+
+    private final Map<OperacaoCarga, Amostras> amostras = new EnumMap<>(OperacaoCarga.class);
+    private final Map<OperacaoCarga, Long> erros = new EnumMap<>(OperacaoCarga.class);
+
+    // Chamado por uma thread cliente por vez; o registro concorrente fica em Coletor
+    void juntar(Coletor coletor) {
+        coletor.amostras.forEach((operacao, novas) -> amostras.computeIfAbsent(operacao, o -> new Amostras()).juntar(novas));
+        coletor.erros.forEach((operacao, quantidade) -> erros.merge(operacao, quantidade, Long::sum));
+    }
+
+    // Operação -> métricas (requisições, erros, vazão em req/s e percentis em ms), mais a linha "total"
+    Map<String, Map<String, Double>> resumo(Duration duracao) {
+        double segundos = duracao.toNanos() / 1e9;
+        Map<String, Map<String, Double>> resumo = new LinkedHashMap<>();
+        Amostras todas = new Amostras();
+        long totalErros = 0;
+        for (Map.Entry<OperacaoCarga, Amostras> entrada : amostras.entrySet()) {
+            long errosOperacao = erros.getOrDefault(entrada.getKey(), 0L);
+            resumo.put(entrada.getKey().getNome(), metricas(entrada.getValue(), errosOperacao, segundos));
+            todas.juntar(entrada.getValue());
+            totalErros += errosOperacao;
+        }
+        resumo.put(TOTAL, metricas(todas, totalErros, segundos));
+        return resumo;
+    }
+
+    // slo.vazao e slo.erros valem para o total; slo.<operacao>.<percentil> para cada operação
+    static List<String> verificar(Map<String, Map<String, Double>> resumo, Map<String, Double> slos) {
+        List<String> violacoes = new ArrayList<>();
+        Map<String, Double> total = resumo.get(TOTAL);
+        for (Map.Entry<String, Double> slo : slos.entrySet()) {
+            String chave = slo.getKey();
+            double limite = slo.getValue();
+            if (chave.equals("vazao")) {
+                if (total.get("vazao") < limite) {
+                    violacoes.add(String.format(Locale.ROOT, "vazão %.1f req/s abaixo de %.1f", total.get("vazao"), limite));
+                }
+            } else if (chave.equals("erros")) {
+                double taxa = total.get("requisicoes") == 0 ? 0 : total.get("erros") / total.get("requisicoes");
+                if (taxa > limite) {
+                    violacoes.add(String.format(Locale.ROOT, "taxa de erros %.4f acima de %.4f", taxa, limite));
+                }
+            } else {
+                int ponto = chave.lastIndexOf('.');
+                Map<String, Double> metricas = ponto > 0 ? resumo.get(chave.substring(0, ponto)) : null;
+                Double valor = metricas != null ? metricas.get(chave.substring(ponto + 1)) : null;
+                if (valor == null) {
+                    // Operação fora do mix ou chave com erro de digitação: o SLO não pode ser conferido
+                    violacoes.add("SLO sem medição correspondente: slo." + chave);
+                } else if (valor > limite) {
+                    violacoes.add(String.format(Locale.ROOT, "%s = %.1f ms acima de %.1f ms", chave, valor, limite));
+                }
+            }
+        }
+        return violacoes;
+    }
+
+    static void imprimir(Map<String, Map<String, Double>> resumo) {
+        System.out.printf("%n%-16s %12s %8s %10s %10s %10s %10s%n",
+                "operação", "requisições", "erros", "req/s", "p50 ms", "p99 ms", "p999 ms");
+        resumo.forEach((operacao, metricas) -> System.out.printf(Locale.ROOT, "%-16s %12.0f %8.0f %10.1f %10.2f %10.2f %10.2f%n",
+                operacao, metricas.get("requisicoes"), metricas.get("erros"), metricas.get("vazao"),
+                metricas.get("p50"), metricas.get("p99"), metricas.get("p999")));
+    }
+
+    static void gravar(Path arquivo, Map<String, Object> conteudo) throws IOException {
+        Files.createDirectories(arquivo.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(arquivo.toFile(), conteudo);
+    }
+
+    private static Map<String, Double> metricas(Amostras amostras, long erros, double segundos) {
+        long[] ordenadas = amostras.ordenadas();
+        Map<String, Double> metricas = new LinkedHashMap<>();
+        metricas.put("requisicoes", (double) ordenadas.length);
+        metricas.put("erros", (double) erros);
+        metricas.put("vazao", ordenadas.length / segundos);
+        for (int i = 0; i < PERCENTIS.length; i++) {
+            metricas.put(NOMES_PERCENTIS[i], percentil(ordenadas, PERCENTIS[i]) / 1e6);
+        }
+        return metricas;
+    }
+
+    // Menor amostra com pelo menos a fração p das amostras até ela (nearest-rank)
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int posicao = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, posicao)];
+    }
+
+    // Registro de uma thread cliente, sem sincronização
+    static final class Coletor {
+
+        private final Map<OperacaoCarga, Amostras> amostras = new EnumMap<>(OperacaoCarga.class);
+        private final Map<OperacaoCarga, Long> erros = new EnumMap<>(OperacaoCarga.class);
+
+        void registrar(OperacaoCarga operacao, long nanos, boolean erro) {
+            amostras.computeIfAbsent(operacao, o -> new Amostras()).adicionar(nanos);
+            if (erro) {
+                erros.merge(operacao, 1L, Long::sum);
+            }
+        }
+    }
+
+    private static final class Amostras {
+
+        private long[] valores = new long[1024];
+        private int tamanho;
+
+        void adicionar(long valor) {
+            if (tamanho == valores.length) {
+                valores = Arrays.copyOf(valores, tamanho * 2);
+            }
+            valores[tamanho++] = valor;
+        }
+
+        void juntar(Amostras outras) {
+            for (int i = 0; i < outras.tamanho; i++) {
+                adicionar(outras.valores[i]);
+            }
+        }
+
+        long[] ordenadas() {
+            long[] copia = Arrays.copyOf(valores, tamanho);
+            Arrays.sort(copia);
+            return copia;
+        }
+    }
+}
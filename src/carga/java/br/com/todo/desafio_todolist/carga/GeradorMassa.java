@@ -0,0 +1,131 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Popula a aplicação pelos endpoints de lote, então funciona tanto no mesmo processo quanto contra
+// uma instância externa. A mesma semente gera a mesma massa: prioridades, vencimentos (vencidas, sem
+// vencimento e a vencer dentro do horizonte), metade das subtarefas concluídas e uma fração das
+// tarefas principais concluídas junto com todas as suas subtarefas.
+final class GeradorMassa {
+
+    private static final int TAMANHO_LOTE = 500;
+
+    private final HttpClient cliente;
+    private final String url;
+    private final ConfiguracaoCarga configuracao;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    GeradorMassa(HttpClient cliente, String url, ConfiguracaoCarga configuracao) {
+        this.cliente = cliente;
+        this.url = url;
+        this.configuracao = configuracao;
+    }
+
+    MassaCarga gerar() throws IOException, InterruptedException {
+        Random aleatorio = new Random(configuracao.inteiro("semente"));
+        int tarefas = configuracao.inteiro("tarefas");
+        int subtarefasPorTarefa = configuracao.inteiro("subtarefasPorTarefa");
+        double vencidas = configuracao.fracao("vencidas");
+        double semVencimento = configuracao.fracao("semVencimento");
+        int horizonteDias = configuracao.inteiro("horizonteDias");
+        double concluidas = configuracao.fracao("concluidas");
+        LocalDateTime agora = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+        List<Map<String, Object>> principais = new ArrayList<>();
+        for (int i = 0; i < tarefas; i++) {
+            Map<String, Object> tarefa = item("tarefa_" + i, 1 + aleatorio.nextInt(5));
+            double sorteio = aleatorio.nextDouble();
+            if (sorteio < vencidas) {
+                tarefa.put("dataVencimento", agora.minusHours(1 + aleatorio.nextInt(horizonteDias * 24)).toString());
+            } else if (sorteio >= vencidas + semVencimento) {
+                tarefa.put("dataVencimento", agora.plusHours(1 + aleatorio.nextInt(horizonteDias * 24)).toString());
+            }
+            principais.add(tarefa);
+        }
+        List<Long> tarefaIds = criar(principais);
+
+        List<Map<String, Object>> filhas = new ArrayList<>();
+        for (Long tarefaId : tarefaIds) {
+            for (int j = 0; j < subtarefasPorTarefa; j++) {
+                Map<String, Object> subtarefa = item("subtarefa_" + tarefaId + "_" + j, 1 + aleatorio.nextInt(5));
+                subtarefa.put("tarefaPaiId", tarefaId);
+                filhas.add(subtarefa);
+            }
+        }
+        List<Long> subtarefaIds = criar(filhas);
+
+        // As subtarefas vêm antes da tarefa principal no lote, que valida as pendentes na ordem
+        List<Map<String, Object>> status = new ArrayList<>();
+        for (int i = 0; i < tarefaIds.size(); i++) {
+            boolean concluida = aleatorio.nextDouble() < concluidas;
+            for (int j = 0; j < subtarefasPorTarefa; j++) {
+                if (concluida || j % 2 == 0) {
+                    status.add(Map.of("id", subtarefaIds.get(i * subtarefasPorTarefa + j), "realizado", true));
+                }
+            }
+            if (concluida) {
+                status.add(Map.of("id", tarefaIds.get(i), "realizado", true));
+            }
+        }
+        for (List<Map<String, Object>> lote : lotes(status)) {
+            enviar("PATCH", "/todos/batch/status", lote);
+        }
+
+        return new MassaCarga(tarefaIds, subtarefaIds);
+    }
+
+    private List<Long> criar(List<Map<String, Object>> itens) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (List<Map<String, Object>> lote : lotes(itens)) {
+            for (JsonNode resultado : enviar("POST", "/todos/batch", lote).path("itens")) {
+                ids.add(resultado.path("id").asLong());
+            }
+        }
+        return ids;
+    }
+
+    // Qualquer item rejeitado invalida a massa, então interrompe a geração
+    private JsonNode enviar(String metodo, String caminho, List<Map<String, Object>> lote)
+            throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url + caminho))
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(lote)))
+                .build();
+        HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        JsonNode corpo = resposta.statusCode() == 200 ? objectMapper.readTree(resposta.body()) : null;
+        if (corpo == null || corpo.path("falhas").asInt() > 0) {
+            throw new IllegalStateException("Falha ao gerar a massa em " + metodo + " " + caminho + ": "
+                    + resposta.statusCode() + " " + new String(resposta.body()));
+        }
+        return corpo;
+    }
+
+    private static Map<String, Object> item(String nome, int prioridade) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("nome", nome);
+        item.put("prioridade", prioridade);
+        return item;
+    }
+
+    private static <T> List<List<T>> lotes(List<T> itens) {
+        List<List<T>> lotes = new ArrayList<>();
+        for (int inicio = 0; inicio < itens.size(); inicio += TAMANHO_LOTE) {
+            lotes.add(itens.subList(inicio, Math.min(inicio + TAMANHO_LOTE, itens.size())));
+        }
+        return lotes;
+    }
+}
@@ -0,0 +1,6 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.util.List;
+
+record MassaCarga(List<Long> tarefaIds, List<Long> subtarefaIds) {
+}
@@ -0,0 +1,84 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.List;
+import java.util.Random;
+
+// Operações do mix, sobre as tarefas e subtarefas geradas pelo GeradorMassa
+enum OperacaoCarga {
+
+    // Listagem paginada com um ou dois filtros, como a tela principal
+    LISTAR("listar") {
+        @Override
+        HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio) {
+            String filtros = "prioridade=" + (1 + aleatorio.nextInt(5));
+            if (aleatorio.nextBoolean()) {
+                filtros += "&realizado=" + aleatorio.nextBoolean();
+            }
+            return get(url + "/todos?size=20&" + filtros);
+        }
+    },
+    // Subtarefas não têm filhas, então qualquer valor é aceito
+    ALTERAR_STATUS("alterarStatus") {
+        @Override
+        HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio) {
+            Long id = sortear(massa.subtarefaIds(), aleatorio);
+            return HttpRequest.newBuilder(URI.create(url + "/todos/" + id + "/status?realizado=" + aleatorio.nextBoolean()))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+    },
+    VENCIDAS("vencidas") {
+        @Override
+        HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio) {
+            return get(url + "/todos/vencidas");
+        }
+    },
+    CRIAR_SUBTAREFA("criarSubtarefa") {
+        @Override
+        HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio) {
+            Long id = sortear(massa.tarefaIds(), aleatorio);
+            String corpo = "{\"nome\":\"carga\",\"prioridade\":" + (1 + aleatorio.nextInt(5)) + "}";
+            return HttpRequest.newBuilder(URI.create(url + "/todos/" + id + "/subtarefas"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(corpo))
+                    .build();
+        }
+    },
+    BUSCAR_POR_ID("buscarPorId") {
+        @Override
+        HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio) {
+            return get(url + "/todos/" + sortear(massa.tarefaIds(), aleatorio));
+        }
+    };
+
+    private final String nome;
+
+    OperacaoCarga(String nome) {
+        this.nome = nome;
+    }
+
+    String getNome() {
+        return nome;
+    }
+
+    abstract HttpRequest requisicao(String url, MassaCarga massa, Random aleatorio);
+
+    static OperacaoCarga fromNome(String nome) {
+        for (OperacaoCarga operacao : values()) {
+            if (operacao.nome.equals(nome)) {
+                return operacao;
+            }
+        }
+        throw new IllegalArgumentException("Operação desconhecida no mix: " + nome);
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).GET().build();
+    }
+
+    private static Long sortear(List<Long> ids, Random aleatorio) {
+        return ids.get(aleatorio.nextInt(ids.size()));
+    }
+}
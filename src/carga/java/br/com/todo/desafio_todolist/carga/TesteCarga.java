@@ -0,0 +1,130 @@
+package br.com.todo.desafio_todolist.carga;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import br.com.todo.desafio_todolist.DesafioTodolistApplication;
+
+// Teste de carga HTTP ponta a ponta: gera a massa, aquece, mede o mix configurado e compara o resultado
+// com os SLOs. Termina com código 1 se algum SLO for violado, o que falha o build do profile carga.
+// Os clientes rodam em laço fechado: quando o servidor fica lento, eles também enviam menos requisições,
+// então os percentis subestimam o que clientes independentes veriam sob a mesma vazão.
+public final class TesteCarga {
+
+    private TesteCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracaoCarga configuracao = ConfiguracaoCarga.de(args);
+        String url = configuracao.texto("url");
+        ConfigurableApplicationContext contexto = null;
+        if (url.isEmpty()) {
+            // O restart do devtools executaria o main de novo só com os argumentos do Spring
+            System.setProperty("spring.devtools.restart.enabled", "false");
+            contexto = new SpringApplicationBuilder(DesafioTodolistApplication.class)
+                    .bannerMode(Banner.Mode.OFF)
+                    .run("--server.port=0",
+                            "--spring.profiles.active=" + configuracao.texto("perfis"),
+                            "--spring.datasource.url=jdbc:h2:mem:carga;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN",
+                            "--logging.level.br.com.todo.desafio_todolist=WARN");
+            url = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port");
+        }
+
+        List<String> violacoes;
+        try {
+            HttpClient cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            MassaCarga massa = new GeradorMassa(cliente, url, configuracao).gerar();
+            System.out.printf("Massa gerada: %d tarefas e %d subtarefas%n", massa.tarefaIds().size(), massa.subtarefaIds().size());
+
+            executar(cliente, url, massa, configuracao, configuracao.duracao("aquecimento"));
+            Duration duracao = configuracao.duracao("duracao");
+            EstatisticasCarga estatisticas = executar(cliente, url, massa, configuracao, duracao);
+
+            Map<String, Map<String, Double>> resumo = estatisticas.resumo(duracao);
+            Map<String, Double> slos = configuracao.slos();
+            violacoes = EstatisticasCarga.verificar(resumo, slos);
+            EstatisticasCarga.imprimir(resumo);
+
+            Map<String, Object> resultado = new LinkedHashMap<>();
+            resultado.put("clientes", configuracao.inteiro("clientes"));
+            resultado.put("duracao", duracao.toString());
+            resultado.put("operacoes", resumo);
+            resultado.put("slos", slos);
+            resultado.put("violacoes", violacoes);
+            EstatisticasCarga.gravar(Path.of(configuracao.texto("resultado")), resultado);
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+
+        if (!violacoes.isEmpty()) {
+            System.out.println("\nSLOs violados:");
+            violacoes.forEach(violacao -> System.out.println("  - " + violacao));
+            System.exit(1);
+        }
+        System.out.println("\nTodos os SLOs atendidos.");
+    }
+
+    private static EstatisticasCarga executar(HttpClient cliente, String url, MassaCarga massa,
+                                              ConfiguracaoCarga configuracao, Duration duracao) throws Exception {
+        Map<OperacaoCarga, Integer> mix = configuracao.mix();
+        OperacaoCarga[] sorteio = mix.entrySet().stream()
+                .flatMap(entrada -> Collections.nCopies(entrada.getValue(), entrada.getKey()).stream())
+                .toArray(OperacaoCarga[]::new);
+        int clientes = configuracao.inteiro("clientes");
+        long semente = configuracao.inteiro("semente");
+        long fim = System.nanoTime() + duracao.toNanos();
+
+        ExecutorService threads = Executors.newFixedThreadPool(clientes);
+        try {
+            List<Future<EstatisticasCarga.Coletor>> coletores = new ArrayList<>();
+            for (int i = 0; i < clientes; i++) {
+                Random aleatorio = new Random(semente + i);
+                coletores.add(threads.submit(() -> {
+                    EstatisticasCarga.Coletor coletor = new EstatisticasCarga.Coletor();
+                    while (System.nanoTime() < fim) {
+                        OperacaoCarga operacao = sorteio[aleatorio.nextInt(sorteio.length)];
+                        HttpRequest requisicao = operacao.requisicao(url, massa, aleatorio);
+                        long inicio = System.nanoTime();
+                        int status;
+                        try {
+                            status = cliente.send(requisicao, HttpResponse.BodyHandlers.discarding()).statusCode();
+                        } catch (IOException e) {
+                            status = 0;
+                        }
+                        coletor.registrar(operacao, System.nanoTime() - inicio, status < 200 || status >= 300);
+                    }
+                    return coletor;
+                }));
+            }
+
+            EstatisticasCarga estatisticas = new EstatisticasCarga();
+            for (Future<EstatisticasCarga.Coletor> coletor : coletores) {
+                estatisticas.juntar(coletor.get());
+            }
+            return estatisticas;
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import br.com.todo.desafio_todolist.DesafioTodolistApplication;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Sobe a aplicação sem servidor web sobre um H2 em memória populado com a massa configurada.
+// Tamanhos podem ser trocados na linha de comando, por exemplo: -p tarefas=10000 -p subtarefasPorTarefa=20
+@State(Scope.Benchmark)
+public abstract class ContextoBenchmark {
+
+    private static final int TAREFAS_POR_TRANSACAO = 500;
+
+    @Param("1000")
+    public int tarefas;
+
+    @Param("5")
+    public int subtarefasPorTarefa;
+
+    @Param("500")
+    public int subtarefasArvore;
+
+    // "none" mede sempre o caminho até o banco; "caffeine" mede o cache de leitura
+    @Param("none")
+    public String cache;
+
+    protected ConfigurableApplicationContext contexto;
+    protected List<Long> tarefaIds;
+    protected Long arvoreId;
+
+    @Setup(Level.Trial)
+    public void iniciarContexto() {
+        List<String> argumentos = new ArrayList<>(argumentosBanco());
+        argumentos.addAll(List.of(
+                "--spring.cache.type=" + cache,
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.br.com.todo.desafio_todolist=WARN"));
+        argumentos.addAll(argumentosAdicionais());
+
+        contexto = new SpringApplicationBuilder(DesafioTodolistApplication.class)
+                .web(tipoAplicacao())
+                .bannerMode(Banner.Mode.OFF)
+                .run(argumentos.toArray(String[]::new));
+        popular();
+    }
+
+    // Benchmarks contra outro banco (MySQL) sobrescrevem a conexão
+    protected List<String> argumentosBanco() {
+        return List.of("--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1");
+    }
+
+    // Benchmarks que passam pelo HTTP sobem o Tomcat sobrescrevendo estes dois métodos
+    protected WebApplicationType tipoAplicacao() {
+        return WebApplicationType.NONE;
+    }
+
+    protected List<String> argumentosAdicionais() {
+        return List.of();
+    }
+
+    @TearDown(Level.Trial)
+    public void fecharContexto() {
+        contexto.close();
+    }
+
+    private void popular() {
+        TodoRepository todoRepository = contexto.getBean(TodoRepository.class);
+        TransactionTemplate transacao = new TransactionTemplate(contexto.getBean(PlatformTransactionManager.class));
+        LocalDateTime agora = LocalDateTime.now();
+
+        // Um banco externo é reaproveitado entre execuções; o H2 em memória já começa vazio
+        JdbcTemplate jdbcTemplate = contexto.getBean(JdbcTemplate.class);
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        tarefaIds = new ArrayList<>();
+        for (int inicio = 0; inicio < tarefas; inicio += TAREFAS_POR_TRANSACAO) {
+            int fim = Math.min(inicio + TAREFAS_POR_TRANSACAO, tarefas);
+            List<Todo> lote = new ArrayList<>();
+            for (int i = inicio; i < fim; i++) {
+                lote.add(tarefa(i, agora));
+            }
+            transacao.executeWithoutResult(status -> todoRepository.saveAll(lote));
+            lote.forEach(todo -> tarefaIds.add(todo.getId()));
+        }
+
+        // Tarefa com muitas subtarefas já concluídas, usada na conclusão da tarefa pai
+        Todo arvore = new Todo("arvore", "tarefa com muitas subtarefas", false, 5);
+        for (int i = 0; i < subtarefasArvore; i++) {
+            arvore.adicionarSubtarefa(new Todo("folha_" + i, null, true, 1));
+        }
+        transacao.executeWithoutResult(status -> todoRepository.save(arvore));
+        arvoreId = arvore.getId();
+    }
+
+    private Todo tarefa(int i, LocalDateTime agora) {
+        Todo tarefa = new Todo("tarefa_" + i, "descrição da tarefa " + i, i % 3 == 0, 1 + i % 5);
+        tarefa.setDataCriacao(agora.minusDays(i % 60));
+        tarefa.setDataVencimento(i % 4 == 0 ? null : agora.plusDays(i % 30 - 10));
+        for (int j = 0; j < subtarefasPorTarefa; j++) {
+            tarefa.adicionarSubtarefa(new Todo("subtarefa_" + i + "_" + j, null, j % 2 == 0, 1 + j % 5));
+        }
+        return tarefa;
+    }
+}
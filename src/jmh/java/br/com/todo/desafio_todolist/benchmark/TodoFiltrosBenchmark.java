@@ -0,0 +1,80 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import br.com.todo.desafio_todolist.dto.CursorPageDTO;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.service.TodoService;
+
+// Listagem paginada (GET /todos) e por cursor (GET /todos/cursor) para cada combinação de filtro
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TodoFiltrosBenchmark extends ContextoBenchmark {
+
+    @Param({"nenhum", "realizado", "prioridade", "vencimento", "nome", "criacao", "possuiSubtarefas", "todos"})
+    public String filtro;
+
+    @Param("20")
+    public int tamanhoPagina;
+
+    private TodoService todoService;
+    private TodoFiltroDTO filtros;
+
+    @Setup(Level.Trial)
+    public void montarFiltros() {
+        todoService = contexto.getBean(TodoService.class);
+
+        LocalDateTime agora = LocalDateTime.now();
+        filtros = new TodoFiltroDTO();
+        if (filtro.equals("realizado") || filtro.equals("todos")) {
+            filtros.setRealizado(false);
+        }
+        if (filtro.equals("prioridade") || filtro.equals("todos")) {
+            filtros.setPrioridade(3);
+        }
+        if (filtro.equals("vencimento") || filtro.equals("todos")) {
+            filtros.setDataInicio(agora.minusDays(5));
+            filtros.setDataFim(agora.plusDays(15));
+        }
+        if (filtro.equals("nome") || filtro.equals("todos")) {
+            filtros.setNome("tarefa_1");
+        }
+        if (filtro.equals("criacao") || filtro.equals("todos")) {
+            filtros.setDataCriacaoInicio(agora.minusDays(30));
+            filtros.setDataCriacaoFim(agora);
+        }
+        if (filtro.equals("possuiSubtarefas") || filtro.equals("todos")) {
+            filtros.setPossuiSubtarefas(true);
+        }
+    }
+
+    @Benchmark
+    public Page<TodoResponseDTO> list() {
+        return todoService.list(filtros, 0, tamanhoPagina, "prioridade", "desc");
+    }
+
+    @Benchmark
+    public CursorPageDTO<TodoResponseDTO> listCursor() {
+        return todoService.listCursor(filtros, null, tamanhoPagina, "prioridade", "desc");
+    }
+}
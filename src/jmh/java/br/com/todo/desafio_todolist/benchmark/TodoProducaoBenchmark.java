@@ -0,0 +1,95 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import br.com.todo.desafio_todolist.dto.LoteResultadoDTO;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.service.TodoLoteService;
+import br.com.todo.desafio_todolist.service.TodoService;
+
+// Vazão da criação em lote e da listagem filtrada com e sem o perfil prod, contra um MySQL.
+// As opções do Connector/J não existem no H2, então o banco é obrigatório; por padrão usa o do docker-compose:
+//   docker compose up -d mysql-db
+//   ./mvnw -Pbenchmark verify -Djmh.args="TodoProducaoBenchmark -p url=jdbc:mysql://host:3306/banco"
+// O banco é esvaziado a cada execução: não aponte para dados reais.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TodoProducaoBenchmark extends ContextoBenchmark {
+
+    // "docker" é a configuração anterior: só a conexão, com o pool e o driver nos padrões
+    @Param({"docker", "docker,prod"})
+    public String perfis;
+
+    @Param("jdbc:mysql://localhost:3306/todolist_db?allowPublicKeyRetrieval=true&useSSL=false")
+    public String url;
+
+    @Param("todouser")
+    public String usuario;
+
+    @Param("todopassword")
+    public String senha;
+
+    @Param("50")
+    public int tamanhoLote;
+
+    private TodoService todoService;
+    private TodoLoteService todoLoteService;
+
+    @Override
+    protected List<String> argumentosBanco() {
+        return List.of(
+                "--spring.profiles.active=" + perfis,
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + usuario,
+                "--spring.datasource.password=" + senha,
+                "--spring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver");
+    }
+
+    @Setup(Level.Trial)
+    public void obterServicos() {
+        todoService = contexto.getBean(TodoService.class);
+        todoLoteService = contexto.getBean(TodoLoteService.class);
+    }
+
+    @Benchmark
+    public LoteResultadoDTO criarLote() {
+        List<Todo> lote = new ArrayList<>(tamanhoLote);
+        for (int i = 0; i < tamanhoLote; i++) {
+            lote.add(new Todo("lote_" + i, "criada pelo benchmark", false, 1 + i % 5));
+        }
+        return todoLoteService.createBatch(lote);
+    }
+
+    @Benchmark
+    public Page<TodoResponseDTO> listarFiltrado() {
+        TodoFiltroDTO filtros = new TodoFiltroDTO();
+        filtros.setRealizado(false);
+        filtros.setPrioridade(1 + ThreadLocalRandom.current().nextInt(5));
+        return todoService.list(filtros, 0, 20, "prioridade", "desc");
+    }
+}
@@ -0,0 +1,51 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.service.TodoService;
+
+// Serialização de uma página de GET /todos com o ObjectMapper configurado pela aplicação
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TodoSerializacaoBenchmark extends ContextoBenchmark {
+
+    @Param({"10", "100"})
+    public int tamanhoPagina;
+
+    private ObjectMapper objectMapper;
+    private Page<TodoResponseDTO> pagina;
+
+    @Setup(Level.Trial)
+    public void carregarPagina() {
+        objectMapper = contexto.getBean(ObjectMapper.class);
+        pagina = contexto.getBean(TodoService.class).list(new TodoFiltroDTO(), 0, tamanhoPagina, "prioridade", "desc");
+    }
+
+    @Benchmark
+    public byte[] serializarPagina() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(pagina);
+    }
+}
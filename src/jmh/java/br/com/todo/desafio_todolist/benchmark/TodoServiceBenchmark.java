@@ -0,0 +1,55 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.service.TodoService;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class TodoServiceBenchmark extends ContextoBenchmark {
+
+    private TodoService todoService;
+    private int proximo;
+    private boolean concluir;
+
+    @Setup(Level.Trial)
+    public void obterServico() {
+        todoService = contexto.getBean(TodoService.class);
+    }
+
+    @Benchmark
+    public TodoResponseDTO findById() {
+        Long id = tarefaIds.get(proximo++ % tarefaIds.size());
+        return todoService.findResponseById(id);
+    }
+
+    // Alterna a tarefa com subtarefasArvore filhas entre concluída e pendente
+    @Benchmark
+    public TodoResponseDTO updateStatusArvoreGrande() {
+        concluir = !concluir;
+        return todoService.updateStatus(arvoreId, concluir, null);
+    }
+
+    @Benchmark
+    public List<TodoResponseDTO> listAll() {
+        return todoService.listAll();
+    }
+}
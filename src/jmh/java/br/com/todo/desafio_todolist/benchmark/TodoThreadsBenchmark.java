@@ -0,0 +1,91 @@
+package br.com.todo.desafio_todolist.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+
+// Carga HTTP concorrente comparando threads de plataforma e threads virtuais.
+// Com mais clientes do que threads no Tomcat, o modo de plataforma enfileira requisições
+// enquanto o modo virtual fica limitado apenas pelo pool de conexões. Requer Java 21 (-Pjava21);
+// em versões anteriores spring.threads.virtual.enabled é ignorado e os dois modos são iguais.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(200)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class TodoThreadsBenchmark extends ContextoBenchmark {
+
+    @Param({"false", "true"})
+    public boolean threadsVirtuais;
+
+    @Param("50")
+    public int threadsTomcat;
+
+    @Param("20")
+    public int poolConexoes;
+
+    private HttpClient cliente;
+    private String baseUrl;
+
+    @Override
+    protected WebApplicationType tipoAplicacao() {
+        return WebApplicationType.SERVLET;
+    }
+
+    @Override
+    protected List<String> argumentosAdicionais() {
+        return List.of(
+                "--server.port=0",
+                "--spring.profiles.active=" + (threadsVirtuais ? "dev,virtual-threads" : "dev"),
+                "--server.tomcat.threads.max=" + threadsTomcat,
+                "--spring.datasource.hikari.maximum-pool-size=" + poolConexoes);
+    }
+
+    @Setup(Level.Trial)
+    public void criarCliente() {
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        baseUrl = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/todos";
+    }
+
+    @Benchmark
+    public int buscarPorId() throws IOException, InterruptedException {
+        Long id = tarefaIds.get(ThreadLocalRandom.current().nextInt(tarefaIds.size()));
+        return get(baseUrl + "/" + id);
+    }
+
+    @Benchmark
+    public int listar() throws IOException, InterruptedException {
+        return get(baseUrl + "?size=20&prioridade=" + (1 + ThreadLocalRandom.current().nextInt(5)));
+    }
+
+    private int get(String url) throws IOException, InterruptedException {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(url)).GET().build();
+        HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Status inesperado " + resposta.statusCode() + " em " + url);
+        }
+        return resposta.body().length;
+    }
+}
@@ -0,0 +1,37 @@
+package br.com.todo.desafio_todolist.config;
+
+import java.net.URI;
+import java.util.Properties;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import com.github.benmanes.caffeine.jcache.CacheManagerImpl;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+// Perfil cache-l2: o Hibernate recebe um CacheManager do Caffeine próprio desta aplicação, com as regiões
+// de cache-l2.conf. O CachingProvider compartilha o CacheManager por URI na JVM inteira, o que juntaria
+// os caches de contextos diferentes (e de bancos diferentes) no mesmo processo.
+@Configuration
+@Profile("cache-l2")
+public class CacheL2Config {
+
+    static final URI CONFIGURACAO = URI.create("cache-l2.conf");
+
+    @Bean(destroyMethod = "close")
+    public CacheManager cacheManagerHibernate() {
+        return new CacheManagerImpl(Caching.getCachingProvider(CaffeineCachingProvider.class.getName()), false,
+                CONFIGURACAO, CacheL2Config.class.getClassLoader(), new Properties());
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer cacheL2HibernateProperties(CacheManager cacheManagerHibernate) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, cacheManagerHibernate);
+    }
+}
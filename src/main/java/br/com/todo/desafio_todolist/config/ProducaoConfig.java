@@ -0,0 +1,39 @@
+package br.com.todo.desafio_todolist.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Perfil prod (MySQL): o pool de conexões é dimensionado pelos núcleos disponíveis quando não há
+// tamanho explícito. Segue a fórmula do HikariCP, núcleos * 2 + 1, com pool fixo (mínimo = máximo).
+@Configuration
+@Profile("prod")
+public class ProducaoConfig {
+
+    static final String TAMANHO_POOL = "spring.datasource.hikari.maximum-pool-size";
+
+    public static int tamanhoPoolRecomendado(int nucleos) {
+        return nucleos * 2 + 1;
+    }
+
+    // Estático para ser registrado antes dos demais beans; o pool só abre conexões no primeiro uso
+    @Bean
+    public static BeanPostProcessor dimensionarPoolConexoes(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nome) {
+                if (bean instanceof HikariDataSource dataSource && !environment.containsProperty(TAMANHO_POOL)) {
+                    int informado = environment.getProperty("todo.db.pool-size", Integer.class, 0);
+                    int tamanho = informado > 0 ? informado : tamanhoPoolRecomendado(Runtime.getRuntime().availableProcessors());
+                    dataSource.setMaximumPoolSize(tamanho);
+                    dataSource.setMinimumIdle(tamanho);
+                }
+                return bean;
+            }
+        };
+    }
+}
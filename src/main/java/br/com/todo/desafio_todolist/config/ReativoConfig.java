@@ -0,0 +1,17 @@
+package br.com.todo.desafio_todolist.config;
+
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// O Tomcat também está no classpath e teria preferência; a variante reativa roda no event loop do Netty
+@Configuration
+@Profile("reactive")
+public class ReativoConfig {
+
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+}
@@ -0,0 +1,38 @@
+package br.com.todo.desafio_todolist.config;
+
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+
+@Configuration
+public class SerializacaoConfig {
+
+    // Sem fields= o filtro de TodoResponseDTO serializa todas as propriedades
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer filtroCamposTodo() {
+        return builder -> builder.filters(new SimpleFilterProvider()
+                .addFilter(TodoResponseDTO.FILTRO_CAMPOS, SimpleBeanPropertyFilter.serializeAll()));
+    }
+
+    // Formatos binários escolhidos pelo Accept (application/cbor e application/x-jackson-smile). Partem do mesmo
+    // builder do JSON (datas, filtros) e substituem os conversores padrão do Spring MVC, que ignorariam essa configuração.
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
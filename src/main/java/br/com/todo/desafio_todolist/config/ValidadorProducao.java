@@ -0,0 +1,110 @@
+package br.com.todo.desafio_todolist.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+// Confere na subida do perfil prod as configurações que costumam escapar para produção
+// e registra um aviso para cada uma. Não impede a inicialização.
+@Component
+@Profile("prod")
+public class ValidadorProducao {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidadorProducao.class);
+
+    // Opções do Connector/J esperadas na URL ou em spring.datasource.hikari.data-source-properties
+    static final List<String> OPCOES_MYSQL = List.of("cachePrepStmts", "useServerPrepStmts", "rewriteBatchedStatements", "useCursorFetch");
+
+    private static final Set<String> DDL_SEGUROS = Set.of("validate", "none");
+    private static final Set<String> LOG_VERBOSO = Set.of("DEBUG", "TRACE", "ALL");
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    public ValidadorProducao(Environment environment, DataSource dataSource) {
+        this.environment = environment;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void validar() {
+        List<String> alertas = verificar();
+        alertas.forEach(alerta -> log.warn("Configuração de produção: {}", alerta));
+        if (alertas.isEmpty()) {
+            log.info("Configuração de produção verificada sem alertas");
+        }
+    }
+
+    public List<String> verificar() {
+        List<String> alertas = new ArrayList<>();
+
+        String ddl = environment.getProperty("spring.jpa.hibernate.ddl-auto", "none");
+        if (!DDL_SEGUROS.contains(ddl.toLowerCase())) {
+            alertas.add("spring.jpa.hibernate.ddl-auto=" + ddl + " altera o schema na subida; use validate e as migrações do Flyway");
+        }
+        if (environment.getProperty("spring.jpa.properties.hibernate.jdbc.batch_size", Integer.class, 0) < 2) {
+            alertas.add("spring.jpa.properties.hibernate.jdbc.batch_size não configurado: cada INSERT vai ao banco separado");
+        }
+        for (String ordenacao : List.of("order_inserts", "order_updates")) {
+            if (!environment.getProperty("spring.jpa.properties.hibernate." + ordenacao, Boolean.class, false)) {
+                alertas.add("spring.jpa.properties.hibernate." + ordenacao + " desligado: lotes com entidades misturadas são quebrados");
+            }
+        }
+        if (environment.getProperty("spring.jpa.show-sql", Boolean.class, false)) {
+            alertas.add("spring.jpa.show-sql=true escreve cada comando SQL no console");
+        }
+        if (environment.getProperty("spring.jpa.open-in-view", Boolean.class, true)) {
+            alertas.add("spring.jpa.open-in-view=true mantém a conexão presa durante a serialização da resposta");
+        }
+        if (environment.getProperty("spring.h2.console.enabled", Boolean.class, false)) {
+            alertas.add("spring.h2.console.enabled=true expõe o console do H2");
+        }
+        for (String logger : List.of("br.com.todo.desafio_todolist", "org.hibernate.SQL", "root")) {
+            String nivel = environment.getProperty("logging.level." + logger, "");
+            if (LOG_VERBOSO.contains(nivel.toUpperCase())) {
+                alertas.add("logging.level." + logger + "=" + nivel + " gera log por requisição");
+            }
+        }
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            verificarConexao(hikari, alertas);
+        }
+        return alertas;
+    }
+
+    private void verificarConexao(HikariDataSource hikari, List<String> alertas) {
+        String url = hikari.getJdbcUrl() != null ? hikari.getJdbcUrl() : "";
+        if (url.startsWith("jdbc:h2:")) {
+            alertas.add("banco H2 (" + url + ") no perfil de produção; os dados não sobrevivem a um reinício");
+        }
+        if (url.startsWith("jdbc:mysql:")) {
+            Properties propriedades = hikari.getDataSourceProperties();
+            for (String opcao : OPCOES_MYSQL) {
+                if (!url.contains(opcao + "=true") && !"true".equalsIgnoreCase(propriedades.getProperty(opcao))) {
+                    alertas.add("opção " + opcao + "=true ausente na conexão MySQL");
+                }
+            }
+        }
+
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        int pool = hikari.getMaximumPoolSize();
+        int recomendado = ProducaoConfig.tamanhoPoolRecomendado(nucleos);
+        if (pool > recomendado * 2) {
+            alertas.add("pool com " + pool + " conexões para " + nucleos + " núcleo(s) (recomendado " + recomendado
+                    + "); conexões a mais só disputam CPU e locks no banco");
+        }
+    }
+}
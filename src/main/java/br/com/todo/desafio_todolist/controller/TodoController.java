@@ -1,12 +1,21 @@
 package br.com.todo.desafio_todolist.controller;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -14,121 +23,326 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import br.com.todo.desafio_todolist.dto.CampoTodo;
+import br.com.todo.desafio_todolist.dto.CursorPageDTO;
+import br.com.todo.desafio_todolist.dto.FormatoExportacao;
+import br.com.todo.desafio_todolist.dto.LoteResultadoDTO;
+import br.com.todo.desafio_todolist.dto.TodoArvoreDTO;
 import br.com.todo.desafio_todolist.dto.TodoCreateDTO;
+import br.com.todo.desafio_todolist.dto.TodoEstatisticasDTO;
 import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.dto.TodoStatusLoteDTO;
 import br.com.todo.desafio_todolist.dto.TodoUpdateDTO;
 import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.service.FilaStatus;
+import br.com.todo.desafio_todolist.service.Idempotencia;
+import br.com.todo.desafio_todolist.service.IndiceBusca;
+import br.com.todo.desafio_todolist.service.TodoArvoreService;
+import br.com.todo.desafio_todolist.service.TodoEstatisticasService;
+import br.com.todo.desafio_todolist.service.TodoEtags;
+import br.com.todo.desafio_todolist.service.TodoEventos;
+import br.com.todo.desafio_todolist.service.TodoExportService;
+import br.com.todo.desafio_todolist.service.TodoLoteService;
 import br.com.todo.desafio_todolist.service.TodoService;
 import jakarta.validation.Valid;
 
 @RestController
 @RequestMapping("/todos")
+@Profile("!reactive")
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoLoteService todoLoteService;
+    private final TodoExportService todoExportService;
+    private final TodoEventos todoEventos;
+    private final TodoArvoreService todoArvoreService;
+    private final IndiceBusca indiceBusca;
+    private final TodoEstatisticasService todoEstatisticasService;
+    private final FilaStatus filaStatus;
+    private final Idempotencia idempotencia;
 
-    public TodoController(TodoService todoService) {
+    public TodoController(TodoService todoService, TodoLoteService todoLoteService, TodoExportService todoExportService,
+                          TodoEventos todoEventos, TodoArvoreService todoArvoreService, IndiceBusca indiceBusca,
+                          TodoEstatisticasService todoEstatisticasService, FilaStatus filaStatus,
+                          Idempotencia idempotencia) {
         this.todoService = todoService;
+        this.todoLoteService = todoLoteService;
+        this.todoExportService = todoExportService;
+        this.todoEventos = todoEventos;
+        this.todoArvoreService = todoArvoreService;
+        this.indiceBusca = indiceBusca;
+        this.todoEstatisticasService = todoEstatisticasService;
+        this.filaStatus = filaStatus;
+        this.idempotencia = idempotencia;
 }
 
     @PostMapping
-    public ResponseEntity<Todo> create(@Valid @RequestBody TodoCreateDTO todoDTO) {
-        Todo todo = convertToEntity(todoDTO);
-        Todo todoSalvo = todoService.create(todo);
-        return ResponseEntity.status(HttpStatus.CREATED).body(todoSalvo);
+    public ResponseEntity<TodoResponseDTO> create(
+            @Valid @RequestBody TodoCreateDTO todoDTO,
+            @RequestHeader(value = Idempotencia.CABECALHO, required = false) String chave) {
+        
+        return idempotencia.executar(chave, "POST /todos", todoDTO, TodoResponseDTO.class, () -> {
+            Todo todo = convertToEntity(todoDTO);
+            TodoResponseDTO todoSalvo = todoService.create(todo);
+            return ResponseEntity.status(HttpStatus.CREATED).body(todoSalvo);
+        });
     }
 
     @GetMapping
-    public ResponseEntity<Page<Todo>> list(
-            @RequestParam(required = false) Boolean realizado,
-            @RequestParam(required = false) Integer prioridade,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataInicio,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dataFim,
+    public ResponseEntity<?> list(
+            @ParameterObject TodoFiltroDTO filtros,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "prioridade") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String fields,
+            ServletWebRequest requisicao) {
         
-        TodoFiltroDTO filtros = new TodoFiltroDTO(realizado, prioridade, dataInicio, dataFim);
-        Page<Todo> todos = todoService.list(filtros, page, size, sortBy, sortDir);
+        Set<CampoTodo> campos = CampoTodo.fromParametro(fields);
+        // Responde 304 com uma consulta agregada, antes de buscar a página e o total
+        String etag = TodoEtags.de(todoService.versaoTabela(), requisicao.getRequest().getQueryString());
+        if (requisicao.checkNotModified(etag)) {
+            return null;
+        }
+        Page<TodoResponseDTO> todos = todoService.list(filtros, page, size, sortBy, sortDir, campos);
+        return ResponseEntity.ok().eTag(etag).varyBy(HttpHeaders.ACCEPT).body(comCampos(todos, campos));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPageDTO<TodoResponseDTO>> listCursor(
+            @ParameterObject TodoFiltroDTO filtros,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "prioridade") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        CursorPageDTO<TodoResponseDTO> todos = todoService.listCursor(filtros, cursor, size, sortBy, sortDir);
         return ResponseEntity.ok(todos);
     }
 
-    @GetMapping("/all")
-    public ResponseEntity<List<Todo>> listAll() {
-        List<Todo> todos = todoService.listAll();
+    // Busca textual em nome e descrição, ordenada por relevância e combinável com os filtros da listagem
+    @GetMapping("/busca")
+    public ResponseEntity<Page<TodoResponseDTO>> buscar(
+            @RequestParam(required = false) String q,
+            @ParameterObject TodoFiltroDTO filtros,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Page<TodoResponseDTO> todos = todoService.buscar(q, filtros, page, size);
         return ResponseEntity.ok(todos);
     }
 
+    // Reconstrói o índice de busca a partir do banco
+    @PostMapping("/busca/reindexar")
+    public ResponseEntity<Map<String, Integer>> reindexar() {
+        return ResponseEntity.ok(Map.of("indexadas", indiceBusca.reindexar()));
+    }
+
+    @GetMapping("/all")
+    public ResponseEntity<?> listAll(@RequestParam(required = false) String fields) {
+        Set<CampoTodo> campos = CampoTodo.fromParametro(fields);
+        List<TodoResponseDTO> todos = todoService.listAll(campos);
+        return ResponseEntity.ok(comCampos(todos, campos));
+    }
+
+    // Exportação completa escrita em streaming, sem montar a lista em memória
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(@RequestParam(defaultValue = "ndjson") String formato) {
+        FormatoExportacao formatoExportacao = FormatoExportacao.fromExtensao(formato);
+        ContentDisposition anexo = ContentDisposition.attachment()
+                .filename("todos." + formatoExportacao.getExtensao())
+                .build();
+
+        StreamingResponseBody corpo = saida -> todoExportService.exportar(formatoExportacao, saida);
+        return ResponseEntity.ok()
+                .contentType(formatoExportacao.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, anexo.toString())
+                .body(corpo);
+    }
+
+    // Alterações confirmadas enviadas por Server-Sent Events, com filtros opcionais
+    @GetMapping(path = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> eventos(
+            @RequestParam(required = false) Long tarefaPaiId,
+            @RequestParam(required = false) Integer prioridade,
+            @RequestParam(required = false) Boolean realizado) {
+
+        return ResponseEntity.ok(todoEventos.assinar(tarefaPaiId, prioridade, realizado));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Todo> findById(@PathVariable Long id) {
-        Todo todo = todoService.findById(id);
-        return ResponseEntity.ok(todo);
+    public ResponseEntity<TodoResponseDTO> findById(@PathVariable Long id) {
+        filaStatus.aguardar(id);
+        TodoResponseDTO todo = todoService.findResponseById(id);
+        return comVersao(todo);
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<Todo> update(@PathVariable Long id, @Valid @RequestBody TodoUpdateDTO todoDTO) {
+    public ResponseEntity<TodoResponseDTO> update(
+            @PathVariable Long id,
+            @Valid @RequestBody TodoUpdateDTO todoDTO,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
         Todo todo = convertToEntityForUpdate(todoDTO);
-        Todo todoAtualizado = todoService.update(id, todo);
-        return ResponseEntity.ok(todoAtualizado);
+        filaStatus.aguardar(id);
+        TodoResponseDTO todoAtualizado = todoService.update(id, todo, ifMatch);
+        return comVersao(todoAtualizado);
     }
 
+    // Com a gravação adiada, a alteração é validada e aceita (202) e vai para o banco no próximo lote.
+    // Com If-Match a comparação precisa da versão gravada, então segue pelo caminho síncrono.
     @PatchMapping("/{id}/status")
-    public ResponseEntity<Todo> updateStatus(@PathVariable Long id, @RequestParam Boolean realizado) {
-        Todo todoAtualizado = todoService.updateStatus(id, realizado);
-        return ResponseEntity.ok(todoAtualizado);
+    public ResponseEntity<?> updateStatus(
+            @PathVariable Long id,
+            @RequestParam Boolean realizado,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        
+        if (filaStatus.isAtiva() && ifMatch == null) {
+            return ResponseEntity.accepted().body(filaStatus.aceitar(id, realizado));
+        }
+        filaStatus.aguardar(id);
+        TodoResponseDTO todoAtualizado = todoService.updateStatus(id, realizado, ifMatch);
+        return comVersao(todoAtualizado);
     }
 
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
+        filaStatus.aguardar(id);
         todoService.delete(id);
         return ResponseEntity.noContent().build();
     }
 
+    // Endpoints em lote: o resultado de cada item é informado individualmente
+    @PostMapping("/batch")
+    public ResponseEntity<LoteResultadoDTO> createBatch(@RequestBody List<TodoCreateDTO> todosDTO) {
+        List<Todo> todos = todosDTO.stream().map(this::convertToEntity).toList();
+        LoteResultadoDTO resultado = todoLoteService.createBatch(todos);
+        return ResponseEntity.ok(resultado);
+    }
+
+    @PatchMapping("/batch/status")
+    public ResponseEntity<LoteResultadoDTO> updateStatusBatch(@RequestBody List<TodoStatusLoteDTO> itens) {
+        filaStatus.aguardar(itens.stream().map(TodoStatusLoteDTO::getId).toList());
+        LoteResultadoDTO resultado = todoLoteService.updateStatusBatch(itens);
+        return ResponseEntity.ok(resultado);
+    }
+
+    @DeleteMapping("/batch")
+    public ResponseEntity<LoteResultadoDTO> deleteBatch(@RequestBody List<Long> ids) {
+        filaStatus.aguardar(ids);
+        LoteResultadoDTO resultado = todoLoteService.deleteBatch(ids);
+        return ResponseEntity.ok(resultado);
+    }
+
     // Endpoints para subtarefas
     @PostMapping("/{tarefaPaiId}/subtarefas")
-    public ResponseEntity<Todo> adicionarSubtarefa(
+    public ResponseEntity<TodoResponseDTO> adicionarSubtarefa(
             @PathVariable Long tarefaPaiId, 
-            @Valid @RequestBody TodoCreateDTO subtarefaDTO) {
+            @Valid @RequestBody TodoCreateDTO subtarefaDTO,
+            @RequestHeader(value = Idempotencia.CABECALHO, required = false) String chave) {
         
-        Todo subtarefa = convertToEntity(subtarefaDTO);
-        Todo subtarefaSalva = todoService.adicionarSubtarefa(tarefaPaiId, subtarefa);
-        return ResponseEntity.status(HttpStatus.CREATED).body(subtarefaSalva);
+        return idempotencia.executar(chave, "POST /todos/" + tarefaPaiId + "/subtarefas", subtarefaDTO,
+                TodoResponseDTO.class, () -> {
+                    Todo subtarefa = convertToEntity(subtarefaDTO);
+                    TodoResponseDTO subtarefaSalva = todoService.adicionarSubtarefa(tarefaPaiId, subtarefa);
+                    return ResponseEntity.status(HttpStatus.CREATED).body(subtarefaSalva);
+                });
     }
 
     @GetMapping("/{tarefaPaiId}/subtarefas")
-    public ResponseEntity<List<Todo>> listarSubtarefas(@PathVariable Long tarefaPaiId) {
-        List<Todo> subtarefas = todoService.listarSubtarefas(tarefaPaiId);
-        return ResponseEntity.ok(subtarefas);
+    public ResponseEntity<List<TodoResponseDTO>> listarSubtarefas(@PathVariable Long tarefaPaiId) {
+        filaStatus.aguardar(tarefaPaiId);
+        List<TodoResponseDTO> subtarefas = todoService.listarSubtarefas(tarefaPaiId);
+        // Sem Last-Modified: a data mais recente das subtarefas restantes não avança quando uma delas é excluída
+        return ResponseEntity.ok().eTag(TodoEtags.de(subtarefas)).varyBy(HttpHeaders.ACCEPT).body(subtarefas);
+    }
+
+    // Árvore completa em uma consulta, com contagens de conclusão por nó
+    @GetMapping("/{id}/arvore")
+    public ResponseEntity<TodoArvoreDTO> arvore(
+            @PathVariable Long id,
+            @RequestParam(required = false) Integer profundidade,
+            @RequestParam(required = false) Integer limiteSubtarefas) {
+
+        filaStatus.aguardar(id);
+        TodoArvoreDTO arvore = todoArvoreService.arvore(id, profundidade, limiteSubtarefas);
+        return ResponseEntity.ok(arvore);
     }
 
     // Endpoints de consulta específicos
+    // Contagens por prioridade e status, vencidas e percentual concluído; com agrupamento, também por período
+    @GetMapping("/estatisticas")
+    public ResponseEntity<TodoEstatisticasDTO> estatisticas(
+            @RequestParam(required = false) String agrupamento,
+            @RequestParam(defaultValue = "criacao") String data,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fim) {
+
+        return ResponseEntity.ok(todoEstatisticasService.estatisticas(agrupamento, data, inicio, fim));
+    }
+
     @GetMapping("/vencidas")
-    public ResponseEntity<List<Todo>> listarTarefasVencidas() {
-        List<Todo> tarefasVencidas = todoService.findTarefasVencidas();
+    public ResponseEntity<List<TodoResponseDTO>> listarTarefasVencidas() {
+        List<TodoResponseDTO> tarefasVencidas = todoService.findTarefasVencidas();
         return ResponseEntity.ok(tarefasVencidas);
     }
 
     @GetMapping("/vencimento-proximo")
-    public ResponseEntity<List<Todo>> listarTarefasComVencimentoProximo(@RequestParam(defaultValue = "7") int dias) {
-        List<Todo> tarefas = todoService.findTarefasComVencimentoProximo(dias);
+    public ResponseEntity<List<TodoResponseDTO>> listarTarefasComVencimentoProximo(@RequestParam(defaultValue = "7") int dias) {
+        List<TodoResponseDTO> tarefas = todoService.findTarefasComVencimentoProximo(dias);
         return ResponseEntity.ok(tarefas);
     }
 
     @GetMapping("/status/{realizado}")
-    public ResponseEntity<List<Todo>> listarPorStatus(@PathVariable Boolean realizado) {
-        List<Todo> todos = todoService.findByStatus(realizado);
-        return ResponseEntity.ok(todos);
+    public ResponseEntity<?> listarPorStatus(
+            @PathVariable Boolean realizado,
+            @RequestParam(required = false) String fields) {
+        Set<CampoTodo> campos = CampoTodo.fromParametro(fields);
+        List<TodoResponseDTO> todos = todoService.findByStatus(realizado, campos);
+        return ResponseEntity.ok(comCampos(todos, campos));
     }
 
     @GetMapping("/prioridade/{prioridade}")
-    public ResponseEntity<List<Todo>> listarPorPrioridade(@PathVariable Integer prioridade) {
-        List<Todo> todos = todoService.findByPrioridade(prioridade);
-        return ResponseEntity.ok(todos);
+    public ResponseEntity<?> listarPorPrioridade(
+            @PathVariable Integer prioridade,
+            @RequestParam(required = false) String fields) {
+        Set<CampoTodo> campos = CampoTodo.fromParametro(fields);
+        List<TodoResponseDTO> todos = todoService.findByPrioridade(prioridade, campos);
+        return ResponseEntity.ok(comCampos(todos, campos));
+    }
+
+    // Em GET, o Spring compara ETag e Last-Modified com If-None-Match/If-Modified-Since e responde 304 sem serializar o corpo.
+    // O ETag é o mesmo em JSON, CBOR e Smile, então caches intermediários precisam separar as respostas pelo Accept.
+    private ResponseEntity<TodoResponseDTO> comVersao(TodoResponseDTO todo) {
+        return ResponseEntity.ok()
+                .eTag(TodoEtags.de(todo))
+                .lastModified(TodoEtags.ultimaAlteracao(todo))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(todo);
+    }
+
+    // Com fields=, só as propriedades pedidas de TodoResponseDTO são escritas, em qualquer formato negociado
+    private static Object comCampos(Object corpo, Set<CampoTodo> campos) {
+        if (campos == null) {
+            return corpo;
+        }
+        Set<String> nomes = campos.stream().map(CampoTodo::getNome).collect(Collectors.toSet());
+        MappingJacksonValue valor = new MappingJacksonValue(corpo);
+        valor.setFilters(new SimpleFilterProvider()
+                .addFilter(TodoResponseDTO.FILTRO_CAMPOS, SimpleBeanPropertyFilter.filterOutAllExcept(nomes)));
+        return valor;
     }
 
     // Métodos auxiliares para conversão
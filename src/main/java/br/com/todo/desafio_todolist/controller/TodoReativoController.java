@@ -0,0 +1,117 @@
+package br.com.todo.desafio_todolist.controller;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import br.com.todo.desafio_todolist.dto.TodoCreateDTO;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.dto.TodoUpdateDTO;
+import br.com.todo.desafio_todolist.service.TodoReativoService;
+import jakarta.validation.Valid;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Contraparte WebFlux do TodoController, ativa apenas com o profile reactive.
+// Listagens aceitam application/x-ndjson para receber as tarefas em streaming.
+@RestController
+@RequestMapping("/todos")
+@Profile("reactive")
+public class TodoReativoController {
+
+    private final TodoReativoService todoService;
+
+    public TodoReativoController(TodoReativoService todoService) {
+        this.todoService = todoService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<TodoSummaryDTO>> create(@Valid @RequestBody TodoCreateDTO todoDTO) {
+        return todoService.create(todoDTO)
+                .map(todo -> ResponseEntity.status(HttpStatus.CREATED).body(todo));
+    }
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> list(
+            TodoFiltroDTO filtros,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "prioridade") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDir) {
+
+        return todoService.list(filtros, page, size, sortBy, sortDir);
+    }
+
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listAll() {
+        return todoService.listAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<TodoSummaryDTO> findById(@PathVariable Long id) {
+        return todoService.findResponseById(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<TodoSummaryDTO> update(@PathVariable Long id, @Valid @RequestBody TodoUpdateDTO todoDTO) {
+        return todoService.update(id, todoDTO);
+    }
+
+    @PatchMapping("/{id}/status")
+    public Mono<TodoSummaryDTO> updateStatus(@PathVariable Long id, @RequestParam Boolean realizado) {
+        return todoService.updateStatus(id, realizado);
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id) {
+        return todoService.delete(id).then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    // Endpoints para subtarefas
+    @PostMapping("/{tarefaPaiId}/subtarefas")
+    public Mono<ResponseEntity<TodoSummaryDTO>> adicionarSubtarefa(
+            @PathVariable Long tarefaPaiId,
+            @Valid @RequestBody TodoCreateDTO subtarefaDTO) {
+
+        return todoService.adicionarSubtarefa(tarefaPaiId, subtarefaDTO)
+                .map(subtarefa -> ResponseEntity.status(HttpStatus.CREATED).body(subtarefa));
+    }
+
+    @GetMapping(value = "/{tarefaPaiId}/subtarefas", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listarSubtarefas(@PathVariable Long tarefaPaiId) {
+        return todoService.listarSubtarefas(tarefaPaiId);
+    }
+
+    // Endpoints de consulta específicos
+    @GetMapping(value = "/vencidas", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listarTarefasVencidas() {
+        return todoService.findTarefasVencidas();
+    }
+
+    @GetMapping(value = "/vencimento-proximo", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listarTarefasComVencimentoProximo(@RequestParam(defaultValue = "7") int dias) {
+        return todoService.findTarefasComVencimentoProximo(dias);
+    }
+
+    @GetMapping(value = "/status/{realizado}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listarPorStatus(@PathVariable Boolean realizado) {
+        return todoService.findByStatus(realizado);
+    }
+
+    @GetMapping(value = "/prioridade/{prioridade}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<TodoSummaryDTO> listarPorPrioridade(@PathVariable Integer prioridade) {
+        return todoService.findByPrioridade(prioridade);
+    }
+}
@@ -0,0 +1,50 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+// Tamanho dos períodos de GET /todos/estatisticas. O banco agrupa por dia; semanas
+// (iniciadas na segunda-feira) e meses são somados a partir dos dias.
+public enum AgrupamentoEstatistica {
+    DIA("dia"),
+    SEMANA("semana"),
+    MES("mes");
+
+    private final String nome;
+
+    AgrupamentoEstatistica(String nome) {
+        this.nome = nome;
+    }
+
+    public static AgrupamentoEstatistica fromNome(String nome) {
+        for (AgrupamentoEstatistica agrupamento : values()) {
+            if (agrupamento.nome.equalsIgnoreCase(nome)) {
+                return agrupamento;
+            }
+        }
+        throw new BusinessException("Agrupamento inválido: " + nome);
+    }
+
+    public LocalDate inicioDoPeriodo(LocalDate data) {
+        return switch (this) {
+            case DIA -> data;
+            case SEMANA -> data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MES -> data.withDayOfMonth(1);
+        };
+    }
+
+    public LocalDate proximoPeriodo(LocalDate inicio) {
+        return switch (this) {
+            case DIA -> inicio.plusDays(1);
+            case SEMANA -> inicio.plusWeeks(1);
+            case MES -> inicio.plusMonths(1);
+        };
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
@@ -0,0 +1,54 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+// Campos aceitos em sortBy para a paginação por cursor
+public enum CampoOrdenacao {
+    ID("id", false, Long::valueOf, TodoSummaryDTO::getId),
+    NOME("nome", false, valor -> valor, TodoSummaryDTO::getNome),
+    PRIORIDADE("prioridade", false, Integer::valueOf, TodoSummaryDTO::getPrioridade),
+    REALIZADO("realizado", false, Boolean::valueOf, TodoSummaryDTO::getRealizado),
+    DATA_VENCIMENTO("dataVencimento", true, LocalDateTime::parse, TodoSummaryDTO::getDataVencimento),
+    DATA_CRIACAO("dataCriacao", false, LocalDateTime::parse, TodoSummaryDTO::getDataCriacao),
+    DATA_ATUALIZACAO("dataAtualizacao", true, LocalDateTime::parse, TodoSummaryDTO::getDataAtualizacao);
+
+    private final String atributo;
+    private final boolean anulavel;
+    private final Function<String, Object> conversor;
+    private final Function<TodoSummaryDTO, Object> extrator;
+
+    CampoOrdenacao(String atributo, boolean anulavel, Function<String, Object> conversor, Function<TodoSummaryDTO, Object> extrator) {
+        this.atributo = atributo;
+        this.anulavel = anulavel;
+        this.conversor = conversor;
+        this.extrator = extrator;
+    }
+
+    public static CampoOrdenacao fromAtributo(String atributo) {
+        for (CampoOrdenacao campo : values()) {
+            if (campo.atributo.equals(atributo)) {
+                return campo;
+            }
+        }
+        throw new BusinessException("Campo de ordenação inválido: " + atributo);
+    }
+
+    public String getAtributo() {
+        return atributo;
+    }
+
+    public boolean isAnulavel() {
+        return anulavel;
+    }
+
+    public Object converter(String valor) {
+        return conversor.apply(valor);
+    }
+
+    public Object valorDe(TodoSummaryDTO todo) {
+        return extrator.apply(todo);
+    }
+}
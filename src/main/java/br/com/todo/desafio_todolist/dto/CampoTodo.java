@@ -0,0 +1,82 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+// Campos aceitos em fields= nas listagens. Os que têm atributo são colunas da consulta;
+// subtarefas e subtarefasPendentes fazem as subtarefas serem carregadas.
+public enum CampoTodo {
+    ID("id", "id"),
+    NOME("nome", "nome"),
+    DESCRICAO("descricao", "descricao"),
+    REALIZADO("realizado", "realizado"),
+    PRIORIDADE("prioridade", "prioridade"),
+    DATA_VENCIMENTO("dataVencimento", "dataVencimento"),
+    DATA_CRIACAO("dataCriacao", "dataCriacao"),
+    DATA_ATUALIZACAO("dataAtualizacao", "dataAtualizacao"),
+    TAREFA_PAI_ID("tarefaPaiId", "tarefaPai.id"),
+    VERSAO("versao", "versao"),
+    SUBTAREFAS("subtarefas", null),
+    SUBTAREFAS_PENDENTES("subtarefasPendentes", null);
+
+    private final String nome;
+    private final String atributo;
+
+    CampoTodo(String nome, String atributo) {
+        this.nome = nome;
+        this.atributo = atributo;
+    }
+
+    // "id,nome,subtarefas" -> campos; sem o parâmetro, null (resposta completa)
+    public static Set<CampoTodo> fromParametro(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<CampoTodo> campos = EnumSet.noneOf(CampoTodo.class);
+        for (String nome : fields.split(",")) {
+            campos.add(fromNome(nome.trim()));
+        }
+        return campos;
+    }
+
+    public static CampoTodo fromNome(String nome) {
+        for (CampoTodo campo : values()) {
+            if (campo.nome.equals(nome)) {
+                return campo;
+            }
+        }
+        throw new BusinessException("Campo inválido em fields: " + nome);
+    }
+
+    public static boolean carregaSubtarefas(Set<CampoTodo> campos) {
+        return campos.contains(SUBTAREFAS) || campos.contains(SUBTAREFAS_PENDENTES);
+    }
+
+    // Colunas projetadas: as pedidas, o id sempre, tarefaPaiId para ligar as subtarefas aos pais
+    // e realizado para contar as pendentes
+    public static Set<CampoTodo> colunas(Set<CampoTodo> campos) {
+        Set<CampoTodo> colunas = EnumSet.of(ID);
+        campos.stream().filter(CampoTodo::isColuna).forEach(colunas::add);
+        if (carregaSubtarefas(campos)) {
+            colunas.add(TAREFA_PAI_ID);
+        }
+        if (campos.contains(SUBTAREFAS_PENDENTES)) {
+            colunas.add(REALIZADO);
+        }
+        return colunas;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getAtributo() {
+        return atributo;
+    }
+
+    public boolean isColuna() {
+        return atributo != null;
+    }
+}
@@ -0,0 +1,28 @@
+package br.com.todo.desafio_todolist.dto;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+// Data usada para distribuir as tarefas nos períodos de GET /todos/estatisticas
+public enum DataEstatistica {
+    CRIACAO("criacao"),
+    VENCIMENTO("vencimento");
+
+    private final String nome;
+
+    DataEstatistica(String nome) {
+        this.nome = nome;
+    }
+
+    public static DataEstatistica fromNome(String nome) {
+        for (DataEstatistica data : values()) {
+            if (data.nome.equalsIgnoreCase(nome)) {
+                return data;
+            }
+        }
+        throw new BusinessException("Data de agrupamento inválida: " + nome);
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
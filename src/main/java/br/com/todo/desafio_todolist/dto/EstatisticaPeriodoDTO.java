@@ -0,0 +1,32 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDate;
+
+// Contagens das tarefas principais cuja data (criação ou vencimento) cai no período iniciado em inicio
+public class EstatisticaPeriodoDTO {
+    private final LocalDate inicio;
+    private final Long total;
+    private final Long concluidas;
+
+    public EstatisticaPeriodoDTO(LocalDate inicio, Long total, Long concluidas) {
+        this.inicio = inicio;
+        this.total = total;
+        this.concluidas = concluidas;
+    }
+
+    public LocalDate getInicio() {
+        return inicio;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public Long getConcluidas() {
+        return concluidas;
+    }
+
+    public Long getPendentes() {
+        return total - concluidas;
+    }
+}
@@ -0,0 +1,36 @@
+package br.com.todo.desafio_todolist.dto;
+
+// Contagens das tarefas principais de uma prioridade, lidas por GROUP BY
+public class EstatisticaPrioridadeDTO {
+    private final Integer prioridade;
+    private final Long total;
+    private final Long concluidas;
+    private final Long vencidas;
+
+    public EstatisticaPrioridadeDTO(Integer prioridade, Long total, Long concluidas, Long vencidas) {
+        this.prioridade = prioridade;
+        this.total = total;
+        this.concluidas = concluidas;
+        this.vencidas = vencidas;
+    }
+
+    public Integer getPrioridade() {
+        return prioridade;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public Long getConcluidas() {
+        return concluidas;
+    }
+
+    public Long getPendentes() {
+        return total - concluidas;
+    }
+
+    public Long getVencidas() {
+        return vencidas;
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.todo.desafio_todolist.dto;
+
+import org.springframework.http.MediaType;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+public enum FormatoExportacao {
+    NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson;charset=UTF-8")),
+    CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+    private final String extensao;
+    private final MediaType mediaType;
+
+    FormatoExportacao(String extensao, MediaType mediaType) {
+        this.extensao = extensao;
+        this.mediaType = mediaType;
+    }
+
+    public static FormatoExportacao fromExtensao(String extensao) {
+        for (FormatoExportacao formato : values()) {
+            if (formato.extensao.equalsIgnoreCase(extensao)) {
+                return formato;
+            }
+        }
+        throw new BusinessException("Formato de exportação inválido: " + extensao);
+    }
+
+    public String getExtensao() {
+        return extensao;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+}
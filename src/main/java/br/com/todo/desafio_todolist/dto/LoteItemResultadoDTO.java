@@ -0,0 +1,69 @@
+package br.com.todo.desafio_todolist.dto;
+
+public class LoteItemResultadoDTO {
+    private int indice;
+    private Long id;
+    private boolean sucesso;
+    private String mensagem;
+    private TodoResponseDTO todo;
+
+    public LoteItemResultadoDTO() {}
+
+    public static LoteItemResultadoDTO sucesso(int indice, Long id, TodoResponseDTO todo) {
+        LoteItemResultadoDTO resultado = new LoteItemResultadoDTO();
+        resultado.indice = indice;
+        resultado.id = id;
+        resultado.sucesso = true;
+        resultado.todo = todo;
+        return resultado;
+    }
+
+    public static LoteItemResultadoDTO erro(int indice, Long id, String mensagem) {
+        LoteItemResultadoDTO resultado = new LoteItemResultadoDTO();
+        resultado.indice = indice;
+        resultado.id = id;
+        resultado.sucesso = false;
+        resultado.mensagem = mensagem;
+        return resultado;
+    }
+
+    public int getIndice() {
+        return indice;
+    }
+
+    public void setIndice(int indice) {
+        this.indice = indice;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isSucesso() {
+        return sucesso;
+    }
+
+    public void setSucesso(boolean sucesso) {
+        this.sucesso = sucesso;
+    }
+
+    public String getMensagem() {
+        return mensagem;
+    }
+
+    public void setMensagem(String mensagem) {
+        this.mensagem = mensagem;
+    }
+
+    public TodoResponseDTO getTodo() {
+        return todo;
+    }
+
+    public void setTodo(TodoResponseDTO todo) {
+        this.todo = todo;
+    }
+}
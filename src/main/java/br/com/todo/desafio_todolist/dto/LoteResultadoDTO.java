@@ -0,0 +1,51 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.util.List;
+
+public class LoteResultadoDTO {
+    private int total;
+    private int sucessos;
+    private int falhas;
+    private List<LoteItemResultadoDTO> itens;
+
+    public LoteResultadoDTO() {}
+
+    public LoteResultadoDTO(List<LoteItemResultadoDTO> itens) {
+        this.itens = itens;
+        this.total = itens.size();
+        this.sucessos = (int) itens.stream().filter(LoteItemResultadoDTO::isSucesso).count();
+        this.falhas = total - sucessos;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucessos() {
+        return sucessos;
+    }
+
+    public void setSucessos(int sucessos) {
+        this.sucessos = sucessos;
+    }
+
+    public int getFalhas() {
+        return falhas;
+    }
+
+    public void setFalhas(int falhas) {
+        this.falhas = falhas;
+    }
+
+    public List<LoteItemResultadoDTO> getItens() {
+        return itens;
+    }
+
+    public void setItens(List<LoteItemResultadoDTO> itens) {
+        this.itens = itens;
+    }
+}
@@ -0,0 +1,19 @@
+package br.com.todo.desafio_todolist.dto;
+
+// Nome do evento SSE enviado em GET /todos/eventos
+public enum TipoEventoTodo {
+    CRIADO("criado"),
+    ATUALIZADO("atualizado"),
+    STATUS("status"),
+    EXCLUIDO("excluido");
+
+    private final String nome;
+
+    TipoEventoTodo(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+}
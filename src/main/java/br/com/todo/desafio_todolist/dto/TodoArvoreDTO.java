@@ -0,0 +1,147 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// Nó de GET /todos/{id}/arvore. totalSubtarefas conta os filhos diretos, inclusive os omitidos pelo limite;
+// totalDescendentes e descendentesConcluidos consideram a subárvore inteira, mesmo além da profundidade pedida.
+public class TodoArvoreDTO {
+    private Long id;
+    private String nome;
+    private String descricao;
+    private Boolean realizado;
+    private Integer prioridade;
+    private LocalDateTime dataVencimento;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
+    private Long tarefaPaiId;
+    private Long versao;
+    private int nivel;
+    private int totalSubtarefas;
+    private int totalDescendentes;
+    private int descendentesConcluidos;
+    private List<TodoArvoreDTO> subtarefas = new ArrayList<>();
+
+    public TodoArvoreDTO() {}
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public Boolean getRealizado() {
+        return realizado;
+    }
+
+    public void setRealizado(Boolean realizado) {
+        this.realizado = realizado;
+    }
+
+    public Integer getPrioridade() {
+        return prioridade;
+    }
+
+    public void setPrioridade(Integer prioridade) {
+        this.prioridade = prioridade;
+    }
+
+    public LocalDateTime getDataVencimento() {
+        return dataVencimento;
+    }
+
+    public void setDataVencimento(LocalDateTime dataVencimento) {
+        this.dataVencimento = dataVencimento;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    public Long getTarefaPaiId() {
+        return tarefaPaiId;
+    }
+
+    public void setTarefaPaiId(Long tarefaPaiId) {
+        this.tarefaPaiId = tarefaPaiId;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public int getNivel() {
+        return nivel;
+    }
+
+    public void setNivel(int nivel) {
+        this.nivel = nivel;
+    }
+
+    public int getTotalSubtarefas() {
+        return totalSubtarefas;
+    }
+
+    public void setTotalSubtarefas(int totalSubtarefas) {
+        this.totalSubtarefas = totalSubtarefas;
+    }
+
+    public int getTotalDescendentes() {
+        return totalDescendentes;
+    }
+
+    public void setTotalDescendentes(int totalDescendentes) {
+        this.totalDescendentes = totalDescendentes;
+    }
+
+    public int getDescendentesConcluidos() {
+        return descendentesConcluidos;
+    }
+
+    public void setDescendentesConcluidos(int descendentesConcluidos) {
+        this.descendentesConcluidos = descendentesConcluidos;
+    }
+
+    public List<TodoArvoreDTO> getSubtarefas() {
+        return subtarefas;
+    }
+
+    public void setSubtarefas(List<TodoArvoreDTO> subtarefas) {
+        this.subtarefas = subtarefas;
+    }
+}
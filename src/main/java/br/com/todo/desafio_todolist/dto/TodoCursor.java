@@ -0,0 +1,77 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+
+// Token opaco com a tupla (valor de ordenação, id) do último item devolvido
+public class TodoCursor {
+
+    private static final String SEPARADOR = "|";
+    private static final String NULO = "N";
+    private static final String PRESENTE = "V";
+
+    private final CampoOrdenacao campo;
+    private final Sort.Direction direcao;
+    private final Object valor;
+    private final Long id;
+
+    public TodoCursor(CampoOrdenacao campo, Sort.Direction direcao, Object valor, Long id) {
+        this.campo = campo;
+        this.direcao = direcao;
+        this.valor = valor;
+        this.id = id;
+    }
+
+    public static TodoCursor of(TodoSummaryDTO ultimo, CampoOrdenacao campo, Sort.Direction direcao) {
+        return new TodoCursor(campo, direcao, campo.valorDe(ultimo), ultimo.getId());
+    }
+
+    // sortDir aceita asc e desc, sem diferenciar maiúsculas; qualquer outro valor é erro do cliente
+    public static Sort.Direction direcao(String sortDir) {
+        return Sort.Direction.fromOptionalString(sortDir)
+                .orElseThrow(() -> new BusinessException("Direção de ordenação inválida: " + sortDir));
+    }
+
+    public String encode() {
+        String texto = String.join(SEPARADOR,
+                campo.getAtributo(),
+                direcao.name(),
+                String.valueOf(id),
+                valor == null ? NULO : PRESENTE + valor);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(texto.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String token) {
+        try {
+            String texto = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] partes = texto.split("\\" + SEPARADOR, 4);
+            CampoOrdenacao campo = CampoOrdenacao.fromAtributo(partes[0]);
+            Sort.Direction direcao = Sort.Direction.valueOf(partes[1]);
+            Long id = Long.valueOf(partes[2]);
+            Object valor = partes[3].startsWith(NULO) ? null : campo.converter(partes[3].substring(PRESENTE.length()));
+            return new TodoCursor(campo, direcao, valor, id);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Cursor inválido", e);
+        }
+    }
+
+    public CampoOrdenacao getCampo() {
+        return campo;
+    }
+
+    public Sort.Direction getDirecao() {
+        return direcao;
+    }
+
+    public Object getValor() {
+        return valor;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
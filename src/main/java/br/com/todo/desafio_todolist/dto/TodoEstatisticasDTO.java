@@ -0,0 +1,50 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.util.List;
+
+// Resposta de GET /todos/estatisticas: tamanho fixo (uma linha por prioridade) mais os períodos pedidos
+public class TodoEstatisticasDTO {
+    private final Long total;
+    private final Long concluidas;
+    private final Long vencidas;
+    private final List<EstatisticaPrioridadeDTO> porPrioridade;
+    private final List<EstatisticaPeriodoDTO> periodos;
+
+    public TodoEstatisticasDTO(Long total, Long concluidas, Long vencidas,
+                               List<EstatisticaPrioridadeDTO> porPrioridade, List<EstatisticaPeriodoDTO> periodos) {
+        this.total = total;
+        this.concluidas = concluidas;
+        this.vencidas = vencidas;
+        this.porPrioridade = porPrioridade;
+        this.periodos = periodos;
+    }
+
+    public Long getTotal() {
+        return total;
+    }
+
+    public Long getConcluidas() {
+        return concluidas;
+    }
+
+    public Long getPendentes() {
+        return total - concluidas;
+    }
+
+    public Long getVencidas() {
+        return vencidas;
+    }
+
+    // Percentual de 0 a 100, com duas casas
+    public Double getPercentualConcluido() {
+        return total == 0 ? 0.0 : Math.round(concluidas * 10000.0 / total) / 100.0;
+    }
+
+    public List<EstatisticaPrioridadeDTO> getPorPrioridade() {
+        return porPrioridade;
+    }
+
+    public List<EstatisticaPeriodoDTO> getPeriodos() {
+        return periodos;
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDateTime;
+
+// Alteração confirmada de uma tarefa; todo traz o estado após a alteração (ou o último estado, na exclusão).
+// saiu indica que a tarefa atendia ao filtro da assinatura antes da alteração e deixou de atender.
+public class TodoEventoDTO {
+    private final long sequencia;
+    private final TipoEventoTodo tipo;
+    private final TodoSummaryDTO todo;
+    private final LocalDateTime data;
+    private final boolean saiu;
+
+    public TodoEventoDTO(long sequencia, TipoEventoTodo tipo, TodoSummaryDTO todo, LocalDateTime data) {
+        this(sequencia, tipo, todo, data, false);
+    }
+
+    private TodoEventoDTO(long sequencia, TipoEventoTodo tipo, TodoSummaryDTO todo, LocalDateTime data, boolean saiu) {
+        this.sequencia = sequencia;
+        this.tipo = tipo;
+        this.todo = todo;
+        this.data = data;
+        this.saiu = saiu;
+    }
+
+    public TodoEventoDTO saida() {
+        return new TodoEventoDTO(sequencia, tipo, todo, data, true);
+    }
+
+    public long getSequencia() {
+        return sequencia;
+    }
+
+    public TipoEventoTodo getTipo() {
+        return tipo;
+    }
+
+    public TodoSummaryDTO getTodo() {
+        return todo;
+    }
+
+    public LocalDateTime getData() {
+        return data;
+    }
+
+    public boolean isSaiu() {
+        return saiu;
+    }
+}
@@ -2,12 +2,28 @@ package br.com.todo.desafio_todolist.dto;
 
 import java.time.LocalDateTime;
 
+import org.springframework.format.annotation.DateTimeFormat;
+
 public class TodoFiltroDTO {
     private Boolean realizado;
     private Integer prioridade;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime dataInicio;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
     private LocalDateTime dataFim;
 
+    private String nome;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataCriacaoInicio;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dataCriacaoFim;
+
+    private Boolean possuiSubtarefas;
+
     public TodoFiltroDTO() {}
 
     public TodoFiltroDTO(Boolean realizado, Integer prioridade, LocalDateTime dataInicio, LocalDateTime dataFim) {
@@ -48,5 +64,36 @@ public class TodoFiltroDTO {
     public void setDataFim(LocalDateTime dataFim) {
         this.dataFim = dataFim;
     }
-}
 
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public LocalDateTime getDataCriacaoInicio() {
+        return dataCriacaoInicio;
+    }
+
+    public void setDataCriacaoInicio(LocalDateTime dataCriacaoInicio) {
+        this.dataCriacaoInicio = dataCriacaoInicio;
+    }
+
+    public LocalDateTime getDataCriacaoFim() {
+        return dataCriacaoFim;
+    }
+
+    public void setDataCriacaoFim(LocalDateTime dataCriacaoFim) {
+        this.dataCriacaoFim = dataCriacaoFim;
+    }
+
+    public Boolean getPossuiSubtarefas() {
+        return possuiSubtarefas;
+    }
+
+    public void setPossuiSubtarefas(Boolean possuiSubtarefas) {
+        this.possuiSubtarefas = possuiSubtarefas;
+    }
+}
@@ -0,0 +1,119 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+
+// O filtro serializa tudo por padrão; com fields= o controller restringe as propriedades (também nas subtarefas)
+@JsonFilter(TodoResponseDTO.FILTRO_CAMPOS)
+public class TodoResponseDTO {
+    public static final String FILTRO_CAMPOS = "camposTodo";
+
+    private Long id;
+    private String nome;
+    private String descricao;
+    private Boolean realizado;
+    private Integer prioridade;
+    private LocalDateTime dataVencimento;
+    private LocalDateTime dataCriacao;
+    private LocalDateTime dataAtualizacao;
+    private Long tarefaPaiId;
+    private Long versao;
+    private List<TodoResponseDTO> subtarefas = new ArrayList<>();
+
+    public TodoResponseDTO() {}
+
+    public long getSubtarefasPendentes() {
+        return subtarefas.stream().filter(subtarefa -> !Boolean.TRUE.equals(subtarefa.getRealizado())).count();
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public void setNome(String nome) {
+        this.nome = nome;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public void setDescricao(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public Boolean getRealizado() {
+        return realizado;
+    }
+
+    public void setRealizado(Boolean realizado) {
+        this.realizado = realizado;
+    }
+
+    public Integer getPrioridade() {
+        return prioridade;
+    }
+
+    public void setPrioridade(Integer prioridade) {
+        this.prioridade = prioridade;
+    }
+
+    public LocalDateTime getDataVencimento() {
+        return dataVencimento;
+    }
+
+    public void setDataVencimento(LocalDateTime dataVencimento) {
+        this.dataVencimento = dataVencimento;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public void setDataCriacao(LocalDateTime dataCriacao) {
+        this.dataCriacao = dataCriacao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public void setDataAtualizacao(LocalDateTime dataAtualizacao) {
+        this.dataAtualizacao = dataAtualizacao;
+    }
+
+    public Long getTarefaPaiId() {
+        return tarefaPaiId;
+    }
+
+    public void setTarefaPaiId(Long tarefaPaiId) {
+        this.tarefaPaiId = tarefaPaiId;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
+    public List<TodoResponseDTO> getSubtarefas() {
+        return subtarefas;
+    }
+
+    public void setSubtarefas(List<TodoResponseDTO> subtarefas) {
+        this.subtarefas = subtarefas;
+    }
+}
@@ -0,0 +1,29 @@
+package br.com.todo.desafio_todolist.dto;
+
+public class TodoStatusLoteDTO {
+    private Long id;
+    private Boolean realizado;
+
+    public TodoStatusLoteDTO() {}
+
+    public TodoStatusLoteDTO(Long id, Boolean realizado) {
+        this.id = id;
+        this.realizado = realizado;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Boolean getRealizado() {
+        return realizado;
+    }
+
+    public void setRealizado(Boolean realizado) {
+        this.realizado = realizado;
+    }
+}
@@ -0,0 +1,103 @@
+package br.com.todo.desafio_todolist.dto;
+
+import java.time.LocalDateTime;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.entity.TodoRow;
+
+// Linha de todos lida por projeção (SELECT new ...), sem passar pelo contexto de persistência
+public class TodoSummaryDTO {
+    private final Long id;
+    private final String nome;
+    private final String descricao;
+    private final Boolean realizado;
+    private final Integer prioridade;
+    private final LocalDateTime dataVencimento;
+    private final LocalDateTime dataCriacao;
+    private final LocalDateTime dataAtualizacao;
+    private final Long tarefaPaiId;
+    private final Long versao;
+
+    public TodoSummaryDTO(Long id, String nome, String descricao, Boolean realizado, Integer prioridade,
+                          LocalDateTime dataVencimento, LocalDateTime dataCriacao, LocalDateTime dataAtualizacao,
+                          Long tarefaPaiId, Long versao) {
+        this.id = id;
+        this.nome = nome;
+        this.descricao = descricao;
+        this.realizado = realizado;
+        this.prioridade = prioridade;
+        this.dataVencimento = dataVencimento;
+        this.dataCriacao = dataCriacao;
+        this.dataAtualizacao = dataAtualizacao;
+        this.tarefaPaiId = tarefaPaiId;
+        this.versao = versao;
+    }
+
+    public static TodoSummaryDTO of(Todo todo) {
+        return new TodoSummaryDTO(
+                todo.getId(),
+                todo.getNome(),
+                todo.getDescricao(),
+                todo.isRealizado(),
+                todo.getPrioridade(),
+                todo.getDataVencimento(),
+                todo.getDataCriacao(),
+                todo.getDataAtualizacao(),
+                todo.getTarefaPai() != null ? todo.getTarefaPai().getId() : null,
+                todo.getVersao());
+    }
+
+    public static TodoSummaryDTO of(TodoRow todo) {
+        return new TodoSummaryDTO(
+                todo.getId(),
+                todo.getNome(),
+                todo.getDescricao(),
+                todo.getRealizado(),
+                todo.getPrioridade(),
+                todo.getDataVencimento(),
+                todo.getDataCriacao(),
+                todo.getDataAtualizacao(),
+                todo.getTarefaPaiId(),
+                todo.getVersao());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    public Boolean getRealizado() {
+        return realizado;
+    }
+
+    public Integer getPrioridade() {
+        return prioridade;
+    }
+
+    public LocalDateTime getDataVencimento() {
+        return dataVencimento;
+    }
+
+    public LocalDateTime getDataCriacao() {
+        return dataCriacao;
+    }
+
+    public LocalDateTime getDataAtualizacao() {
+        return dataAtualizacao;
+    }
+
+    public Long getTarefaPaiId() {
+        return tarefaPaiId;
+    }
+
+    public Long getVersao() {
+        return versao;
+    }
+}
@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -11,21 +15,32 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 
+// Cache de segundo nível ativo apenas no profile cache-l2; sem ele as anotações não têm efeito
 @Entity
-@Table(name = "todos")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo")
+@Table(name = "todos", indexes = {
+    @Index(name = "idx_todos_pai_realizado_vencimento", columnList = "tarefa_pai_id, realizado, data_vencimento"),
+    @Index(name = "idx_todos_pai_prioridade_nome", columnList = "tarefa_pai_id, prioridade, nome"),
+    @Index(name = "idx_todos_pai_prioridade_realizado_vencimento", columnList = "tarefa_pai_id, prioridade, realizado, data_vencimento")
+})
 public class Todo {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todos_seq")
+    @SequenceGenerator(name = "todos_seq", sequenceName = "todos_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank(message = "Nome é obrigatório")
@@ -56,11 +71,17 @@ public class Todo {
     @Column(name = "data_atualizacao")
     private LocalDateTime dataAtualizacao;
 
+    // Incrementada pelo Hibernate a cada UPDATE; base dos ETags e do If-Match
+    @Version
+    @Column(nullable = false)
+    private Long versao;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "tarefa_pai_id")
     private Todo tarefaPai;
 
     @OneToMany(mappedBy = "tarefaPai", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "todo-subtarefas")
     private List<Todo> subtarefas = new ArrayList<>();
 
     public Todo() {
@@ -80,16 +101,6 @@ public class Todo {
         this.dataVencimento = dataVencimento;
     }
 
-    // Método para verificar se pode ser concluída
-    public boolean podeSerConcluida() {
-        return subtarefas.stream().allMatch(subtarefa -> subtarefa.isRealizado());
-    }
-
-    // Método para contar subtarefas pendentes
-    public long getSubtarefasPendentes() {
-        return subtarefas.stream().filter(subtarefa -> !subtarefa.isRealizado()).count();
-    }
-
     // Getters e Setters
     public Long getId() {
         return id;
@@ -156,6 +167,14 @@ public class Todo {
         this.dataAtualizacao = dataAtualizacao;
     }
 
+    public Long getVersao() {
+        return versao;
+    }
+
+    public void setVersao(Long versao) {
+        this.versao = versao;
+    }
+
     public Todo getTarefaPai() {
         return tarefaPai;
     }
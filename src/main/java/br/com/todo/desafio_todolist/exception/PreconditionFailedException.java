@@ -0,0 +1,8 @@
+package br.com.todo.desafio_todolist.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
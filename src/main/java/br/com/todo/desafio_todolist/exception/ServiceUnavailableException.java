@@ -0,0 +1,8 @@
+package br.com.todo.desafio_todolist.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+    
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package br.com.todo.desafio_todolist.exception;
+
+public class UnprocessableEntityException extends RuntimeException {
+    
+    public UnprocessableEntityException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,52 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import br.com.todo.desafio_todolist.entity.TodoRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Mesmas consultas do TodoRepository, em SQL, para a variante reativa
+@Repository
+public interface TodoReativoRepository extends R2dbcRepository<TodoRow, Long>, TodoReativoRepositoryCustom {
+
+    @Query("SELECT * FROM todos WHERE tarefa_pai_id IS NULL ORDER BY prioridade DESC, nome ASC")
+    Flux<TodoRow> findAllTarefas();
+
+    @Query("SELECT * FROM todos WHERE realizado = :realizado AND tarefa_pai_id IS NULL")
+    Flux<TodoRow> findByRealizadoAndTarefaPaiIsNull(@Param("realizado") Boolean realizado);
+
+    @Query("SELECT * FROM todos WHERE prioridade = :prioridade AND tarefa_pai_id IS NULL")
+    Flux<TodoRow> findByPrioridadeAndTarefaPaiIsNull(@Param("prioridade") Integer prioridade);
+
+    @Query("SELECT * FROM todos WHERE data_vencimento < :agora AND realizado = false AND tarefa_pai_id IS NULL")
+    Flux<TodoRow> findTarefasVencidas(@Param("agora") LocalDateTime agora);
+
+    @Query("SELECT * FROM todos WHERE data_vencimento BETWEEN :inicio AND :fim AND realizado = false AND tarefa_pai_id IS NULL")
+    Flux<TodoRow> findTarefasComVencimentoProximo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+
+    @Query("SELECT * FROM todos WHERE tarefa_pai_id = :tarefaPaiId")
+    Flux<TodoRow> findByTarefaPaiId(@Param("tarefaPaiId") Long tarefaPaiId);
+
+    @Query("SELECT COUNT(*) FROM todos WHERE tarefa_pai_id = :tarefaPaiId AND realizado = false")
+    Mono<Long> countSubtarefasPendentes(@Param("tarefaPaiId") Long tarefaPaiId);
+
+    Mono<Boolean> existsByTarefaPaiId(Long tarefaPaiId);
+
+    @Query("""
+            WITH RECURSIVE ancestrais (tarefa_pai_id, nivel) AS (
+                SELECT tarefa_pai_id, 0 FROM todos WHERE id = :id
+                UNION ALL
+                SELECT t.tarefa_pai_id, a.nivel + 1
+                FROM todos t JOIN ancestrais a ON t.id = a.tarefa_pai_id
+                WHERE a.nivel < :nivelMaximo
+            )
+            SELECT MAX(nivel) FROM ancestrais
+            """)
+    Mono<Integer> findNivel(@Param("id") Long id, @Param("nivelMaximo") int nivelMaximo);
+}
@@ -0,0 +1,17 @@
+package br.com.todo.desafio_todolist.repository;
+
+import org.springframework.data.domain.Sort;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.entity.TodoRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface TodoReativoRepositoryCustom {
+
+    Flux<TodoRow> findComFiltros(TodoFiltroDTO filtros, CampoOrdenacao campo, Sort.Direction direcao, long offset, int limite);
+
+    // Insere com id da sequência todos_seq, a mesma usada pelo Hibernate
+    Mono<TodoRow> inserir(TodoRow todo);
+}
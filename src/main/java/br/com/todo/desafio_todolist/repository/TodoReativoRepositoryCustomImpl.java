@@ -0,0 +1,119 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.util.StringUtils;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.entity.TodoRow;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public class TodoReativoRepositoryCustomImpl implements TodoReativoRepositoryCustom {
+
+    // Mesmo incremento do @SequenceGenerator de Todo
+    private static final int ALOCACAO_SEQUENCIA = 50;
+
+    private final R2dbcEntityTemplate template;
+
+    public TodoReativoRepositoryCustomImpl(R2dbcEntityTemplate template) {
+        this.template = template;
+    }
+
+    // Equivalente em SQL de TodoSpecifications.comFiltros; os valores sempre vão como parâmetros
+    @Override
+    public Flux<TodoRow> findComFiltros(TodoFiltroDTO filtros, CampoOrdenacao campo, Sort.Direction direcao, long offset, int limite) {
+        StringBuilder sql = new StringBuilder("SELECT t.* FROM todos t WHERE t.tarefa_pai_id IS NULL");
+        Map<String, Object> parametros = new LinkedHashMap<>();
+
+        if (filtros.getRealizado() != null) {
+            sql.append(" AND t.realizado = :realizado");
+            parametros.put("realizado", filtros.getRealizado());
+        }
+        if (filtros.getPrioridade() != null) {
+            sql.append(" AND t.prioridade = :prioridade");
+            parametros.put("prioridade", filtros.getPrioridade());
+        }
+        if (filtros.getDataInicio() != null) {
+            sql.append(" AND t.data_vencimento >= :dataInicio");
+            parametros.put("dataInicio", filtros.getDataInicio());
+        }
+        if (filtros.getDataFim() != null) {
+            sql.append(" AND t.data_vencimento <= :dataFim");
+            parametros.put("dataFim", filtros.getDataFim());
+        }
+        if (StringUtils.hasText(filtros.getNome())) {
+            // '!' como escape porque a barra invertida é tratada de forma diferente em H2 e MySQL
+            sql.append(" AND LOWER(t.nome) LIKE :nome ESCAPE '!'");
+            parametros.put("nome", "%" + escaparLike(filtros.getNome().trim().toLowerCase()) + "%");
+        }
+        if (filtros.getDataCriacaoInicio() != null) {
+            sql.append(" AND t.data_criacao >= :dataCriacaoInicio");
+            parametros.put("dataCriacaoInicio", filtros.getDataCriacaoInicio());
+        }
+        if (filtros.getDataCriacaoFim() != null) {
+            sql.append(" AND t.data_criacao <= :dataCriacaoFim");
+            parametros.put("dataCriacaoFim", filtros.getDataCriacaoFim());
+        }
+        if (filtros.getPossuiSubtarefas() != null) {
+            sql.append(filtros.getPossuiSubtarefas() ? " AND EXISTS" : " AND NOT EXISTS")
+               .append(" (SELECT 1 FROM todos s WHERE s.tarefa_pai_id = t.id)");
+        }
+
+        // A coluna vem do enum, nunca do texto da requisição
+        String ordem = direcao.isAscending() ? "ASC" : "DESC";
+        sql.append(" ORDER BY t.").append(coluna(campo)).append(' ').append(ordem)
+           .append(", t.id ").append(ordem)
+           .append(" LIMIT :limite OFFSET :offset");
+        parametros.put("limite", limite);
+        parametros.put("offset", offset);
+
+        DatabaseClient.GenericExecuteSpec consulta = template.getDatabaseClient().sql(sql.toString());
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            consulta = consulta.bind(parametro.getKey(), parametro.getValue());
+        }
+        return consulta.map((linha, metadados) -> template.getConverter().read(TodoRow.class, linha, metadados)).all();
+    }
+
+    @Override
+    public Mono<TodoRow> inserir(TodoRow todo) {
+        return proximoId().flatMap(id -> {
+            todo.setId(id);
+            return template.insert(todo);
+        });
+    }
+
+    // O Hibernate reserva blocos de ALOCACAO_SEQUENCIA ids terminando no valor lido da sequência,
+    // então usar o próprio valor lido nunca colide com um id entregue pelo lado JPA.
+    private Mono<Long> proximoId() {
+        DatabaseClient cliente = template.getDatabaseClient();
+        String banco = cliente.getConnectionFactory().getMetadata().getName();
+
+        if (banco.contains("MySQL")) {
+            // No MySQL a sequência é a tabela todos_seq; precisa rodar dentro da transação de quem insere
+            return cliente.sql("SELECT next_val FROM todos_seq FOR UPDATE")
+                    .map(linha -> linha.get(0, Long.class))
+                    .one()
+                    .flatMap(valor -> cliente.sql("UPDATE todos_seq SET next_val = :proximo")
+                            .bind("proximo", valor + ALOCACAO_SEQUENCIA)
+                            .then()
+                            .thenReturn(valor));
+        }
+        return cliente.sql("SELECT NEXT VALUE FOR todos_seq")
+                .map(linha -> linha.get(0, Long.class))
+                .one();
+    }
+
+    private static String coluna(CampoOrdenacao campo) {
+        return campo.getAtributo().replaceAll("([A-Z])", "_$1").toLowerCase();
+    }
+
+    private static String escaparLike(String texto) {
+        return texto.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
@@ -1,48 +1,123 @@
 package br.com.todo.desafio_todolist.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import br.com.todo.desafio_todolist.dto.EstatisticaPeriodoDTO;
+import br.com.todo.desafio_todolist.dto.EstatisticaPrioridadeDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
 import br.com.todo.desafio_todolist.entity.Todo;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, JpaSpecificationExecutor<Todo>, TodoRepositoryCustom {
+
+    String RESUMO = "SELECT new br.com.todo.desafio_todolist.dto.TodoSummaryDTO(" +
+            "t.id, t.nome, t.descricao, t.realizado, t.prioridade, " +
+            "t.dataVencimento, t.dataCriacao, t.dataAtualizacao, t.tarefaPai.id, t.versao) FROM Todo t ";
+
+    String CONSULTAS_CACHE = "todo-consultas";
     
     List<Todo> findByTarefaPaiIsNull();
     
-    List<Todo> findByRealizadoAndTarefaPaiIsNull(Boolean realizado);
+    @Query(RESUMO + "WHERE t.id = :id")
+    Optional<TodoSummaryDTO> findResumoById(@Param("id") Long id);
+    
+    @Query(RESUMO)
+    List<TodoSummaryDTO> findAllResumos(Sort sort);
+
+    // Cursor somente para frente: no MySQL o fetch size só é respeitado com useCursorFetch=true na URL
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESUMO + "ORDER BY t.id")
+    Stream<TodoSummaryDTO> streamResumos();
+    
+    // Estatísticas: uma linha por prioridade, com as contagens condicionais somadas no banco
+    @Query("SELECT new br.com.todo.desafio_todolist.dto.EstatisticaPrioridadeDTO(t.prioridade, COUNT(t), " +
+            "SUM(CASE WHEN t.realizado = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN t.realizado = false AND t.dataVencimento < :agora THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.tarefaPai IS NULL GROUP BY t.prioridade ORDER BY t.prioridade")
+    List<EstatisticaPrioridadeDTO> findEstatisticasPorPrioridade(@Param("agora") LocalDateTime agora);
+    
+    // Estatísticas por dia no intervalo [inicio, fim); semanas e meses são somados no serviço
+    @Query("SELECT new br.com.todo.desafio_todolist.dto.EstatisticaPeriodoDTO(cast(t.dataCriacao as LocalDate), COUNT(t), " +
+            "SUM(CASE WHEN t.realizado = true THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.tarefaPai IS NULL AND t.dataCriacao >= :inicio AND t.dataCriacao < :fim " +
+            "GROUP BY cast(t.dataCriacao as LocalDate)")
+    List<EstatisticaPeriodoDTO> findEstatisticasPorDiaDeCriacao(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+    
+    @Query("SELECT new br.com.todo.desafio_todolist.dto.EstatisticaPeriodoDTO(cast(t.dataVencimento as LocalDate), COUNT(t), " +
+            "SUM(CASE WHEN t.realizado = true THEN 1 ELSE 0 END)) " +
+            "FROM Todo t WHERE t.tarefaPai IS NULL AND t.dataVencimento >= :inicio AND t.dataVencimento < :fim " +
+            "GROUP BY cast(t.dataVencimento as LocalDate)")
+    List<EstatisticaPeriodoDTO> findEstatisticasPorDiaDeVencimento(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
     
-    List<Todo> findByPrioridadeAndTarefaPaiIsNull(Integer prioridade);
+    // Resultado guardado na região todo-consultas quando o cache de consultas está ativo (profile cache-l2)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CONSULTAS_CACHE)
+    })
+    @Query(RESUMO + "WHERE t.realizado = :realizado AND t.tarefaPai IS NULL")
+    List<TodoSummaryDTO> findByRealizadoAndTarefaPaiIsNull(@Param("realizado") Boolean realizado);
     
-    @Query("SELECT t FROM Todo t WHERE t.dataVencimento < :agora AND t.realizado = false AND t.tarefaPai IS NULL")
-    List<Todo> findTarefasVencidas(@Param("agora") LocalDateTime agora);
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CONSULTAS_CACHE)
+    })
+    @Query(RESUMO + "WHERE t.prioridade = :prioridade AND t.tarefaPai IS NULL")
+    List<TodoSummaryDTO> findByPrioridadeAndTarefaPaiIsNull(@Param("prioridade") Integer prioridade);
     
-    @Query("SELECT t FROM Todo t WHERE t.dataVencimento BETWEEN :inicio AND :fim AND t.realizado = false AND t.tarefaPai IS NULL")
-    List<Todo> findTarefasComVencimentoProximo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
+    @Query(RESUMO + "WHERE t.dataVencimento < :agora AND t.realizado = false AND t.tarefaPai IS NULL")
+    List<TodoSummaryDTO> findTarefasVencidas(@Param("agora") LocalDateTime agora);
     
-    @Query("SELECT t FROM Todo t WHERE " +
-           "(:realizado IS NULL OR t.realizado = :realizado) AND " +
-           "(:prioridade IS NULL OR t.prioridade = :prioridade) AND " +
-           "(:dataInicio IS NULL OR t.dataVencimento >= :dataInicio) AND " +
-           "(:dataFim IS NULL OR t.dataVencimento <= :dataFim) AND " +
-           "t.tarefaPai IS NULL")
-    Page<Todo> findWithFilters(
-        @Param("realizado") Boolean realizado,
-        @Param("prioridade") Integer prioridade,
-        @Param("dataInicio") LocalDateTime dataInicio,
-        @Param("dataFim") LocalDateTime dataFim,
-        Pageable pageable
-    );
+    @Query(RESUMO + "WHERE t.dataVencimento BETWEEN :inicio AND :fim AND t.realizado = false AND t.tarefaPai IS NULL")
+    List<TodoSummaryDTO> findTarefasComVencimentoProximo(@Param("inicio") LocalDateTime inicio, @Param("fim") LocalDateTime fim);
     
-    List<Todo> findByTarefaPaiId(Long tarefaPaiId);
+    // Carga do índice de vencimentos em memória
+    @Query(RESUMO + "WHERE t.dataVencimento IS NOT NULL AND t.realizado = false AND t.tarefaPai IS NULL")
+    List<TodoSummaryDTO> findTarefasPendentesComVencimento();
+    
+    @Query(RESUMO + "WHERE t.tarefaPai.id = :tarefaPaiId")
+    List<TodoSummaryDTO> findByTarefaPaiId(@Param("tarefaPaiId") Long tarefaPaiId);
+
+    @Query(RESUMO + "WHERE t.tarefaPai.id IN :tarefaPaiIds ORDER BY t.id")
+    List<TodoSummaryDTO> findByTarefaPaiIdIn(@Param("tarefaPaiIds") Collection<Long> tarefaPaiIds);
     
     @Query("SELECT COUNT(s) FROM Todo s WHERE s.tarefaPai.id = :tarefaPaiId AND s.realizado = false")
     long countSubtarefasPendentes(@Param("tarefaPaiId") Long tarefaPaiId);
-}
\ No newline at end of file
+
+    // Consulta derivada: para na primeira subtarefa encontrada (fetch first 1 rows) em vez de contar todas
+    boolean existsByTarefaPaiId(Long tarefaPaiId);
+
+    // Linhas [tarefaPaiId, quantidade] apenas para as tarefas que têm subtarefas pendentes
+    @Query("SELECT s.tarefaPai.id, COUNT(s) FROM Todo s WHERE s.tarefaPai.id IN :tarefaPaiIds AND s.realizado = false GROUP BY s.tarefaPai.id")
+    List<Object[]> countSubtarefasPendentesPorTarefaPai(@Param("tarefaPaiIds") Collection<Long> tarefaPaiIds);
+
+    // Linhas [id, tarefaPaiId]
+    @Query("SELECT s.id, s.tarefaPai.id FROM Todo s WHERE s.tarefaPai.id IN :tarefaPaiIds")
+    List<Object[]> findSubtarefaIdsByTarefaPaiIdIn(@Param("tarefaPaiIds") Collection<Long> tarefaPaiIds);
+
+    // Linhas [id, nivel]: quantos ancestrais cada tarefa tem (0 = tarefa principal), subindo no máximo nivelMaximo
+    @Query(value = """
+            WITH RECURSIVE ancestrais (origem, tarefa_pai_id, nivel) AS (
+                SELECT id, tarefa_pai_id, 0 FROM todos WHERE id IN (:ids)
+                UNION ALL
+                SELECT a.origem, t.tarefa_pai_id, a.nivel + 1
+                FROM todos t JOIN ancestrais a ON t.id = a.tarefa_pai_id
+                WHERE a.nivel < :nivelMaximo
+            )
+            SELECT origem, MAX(nivel) FROM ancestrais GROUP BY origem
+            """, nativeQuery = true)
+    List<Object[]> findNiveis(@Param("ids") Collection<Long> ids, @Param("nivelMaximo") int nivelMaximo);
+}
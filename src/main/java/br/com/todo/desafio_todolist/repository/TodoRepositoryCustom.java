@@ -0,0 +1,34 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.CampoTodo;
+import br.com.todo.desafio_todolist.dto.TodoArvoreDTO;
+import br.com.todo.desafio_todolist.dto.TodoCursor;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+
+public interface TodoRepositoryCustom {
+
+    Page<TodoSummaryDTO> findResumos(Specification<Todo> spec, Pageable pageable);
+
+    // Projeção só das colunas informadas (fields=); as demais ficam nulas no resumo
+    Page<TodoSummaryDTO> findCampos(Specification<Todo> spec, Set<CampoTodo> colunas, Pageable pageable);
+
+    List<TodoSummaryDTO> findCampos(Specification<Todo> spec, Set<CampoTodo> colunas, Sort sort);
+
+    // Paginação por chave (seek): sem OFFSET e sem COUNT
+    List<TodoSummaryDTO> findSlice(Specification<Todo> spec, CampoOrdenacao campo, Sort.Direction direcao,
+                                   TodoCursor cursor, int limite);
+
+    // Subárvore inteira em uma consulta (CTE recursiva), ordenada por nível. Nós abaixo de profundidade
+    // vêm só com id, tarefaPaiId, realizado e nivel, para as contagens de conclusão.
+    List<TodoArvoreDTO> findArvore(Long id, int profundidade, int nivelMaximo);
+}
@@ -0,0 +1,279 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.query.NativeQuery;
+import org.hibernate.query.NullPrecedence;
+import org.hibernate.query.SortDirection;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.hibernate.query.criteria.JpaExpression;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.CampoTodo;
+import br.com.todo.desafio_todolist.dto.TodoArvoreDTO;
+import br.com.todo.desafio_todolist.dto.TodoCursor;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    // WITH RECURSIVE é suportado pelo H2 e pelo MySQL 8. A recursão usa o índice de tarefa_pai_id e
+    // carrega só as colunas da contagem; as demais vêm do JOIN final, apenas até a profundidade pedida.
+    private static final String ARVORE = """
+            WITH RECURSIVE arvore (id, tarefa_pai_id, realizado, nivel) AS (
+                SELECT id, tarefa_pai_id, realizado, 0 FROM todos WHERE id = :id
+                UNION ALL
+                SELECT s.id, s.tarefa_pai_id, s.realizado, a.nivel + 1
+                FROM todos s JOIN arvore a ON s.tarefa_pai_id = a.id
+                WHERE a.nivel < :nivelMaximo
+            )
+            SELECT a.id, a.tarefa_pai_id, a.realizado, a.nivel, t.nome, t.descricao, t.prioridade,
+                   t.data_vencimento, t.data_criacao, t.data_atualizacao, t.versao
+            FROM arvore a
+            LEFT JOIN todos t ON t.id = a.id AND a.nivel <= :profundidade
+            ORDER BY a.nivel, a.id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<TodoSummaryDTO> findResumos(Specification<Todo> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoSummaryDTO> query = cb.createQuery(TodoSummaryDTO.class);
+        Root<Todo> root = query.from(Todo.class);
+
+        query.select(resumo(cb, root));
+        Predicate filtros = spec.toPredicate(root, query, cb);
+        if (filtros != null) {
+            query.where(filtros);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        List<TodoSummaryDTO> conteudo = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        // O COUNT só é executado quando a página não permite deduzir o total
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public Page<TodoSummaryDTO> findCampos(Specification<Todo> spec, Set<CampoTodo> colunas, Pageable pageable) {
+        List<TodoSummaryDTO> conteudo = entityManager.createQuery(consultaCampos(spec, colunas, pageable.getSort()))
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(linha -> resumo(linha, colunas))
+                .toList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public List<TodoSummaryDTO> findCampos(Specification<Todo> spec, Set<CampoTodo> colunas, Sort sort) {
+        return entityManager.createQuery(consultaCampos(spec, colunas, sort))
+                .getResultList()
+                .stream()
+                .map(linha -> resumo(linha, colunas))
+                .toList();
+    }
+
+    @Override
+    public List<TodoSummaryDTO> findSlice(Specification<Todo> spec, CampoOrdenacao campo, Sort.Direction direcao,
+                                          TodoCursor cursor, int limite) {
+        HibernateCriteriaBuilder cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoSummaryDTO> query = cb.createQuery(TodoSummaryDTO.class);
+        Root<Todo> root = query.from(Todo.class);
+
+        List<Predicate> predicados = new ArrayList<>();
+        Predicate filtros = spec.toPredicate(root, query, cb);
+        if (filtros != null) {
+            predicados.add(filtros);
+        }
+        if (cursor != null) {
+            predicados.add(aposCursor(cb, root, campo, direcao, cursor));
+        }
+
+        // Nulos são tratados como o menor valor: primeiro em ASC, último em DESC
+        boolean asc = direcao.isAscending();
+        JpaExpression<?> coluna = (JpaExpression<?>) root.get(campo.getAtributo());
+        JpaExpression<?> id = (JpaExpression<?>) root.get("id");
+        query.select(resumo(cb, root))
+                .where(predicados.toArray(new Predicate[0]))
+                .orderBy(
+                        cb.sort(coluna, asc ? SortDirection.ASCENDING : SortDirection.DESCENDING,
+                                asc ? NullPrecedence.FIRST : NullPrecedence.LAST),
+                        cb.sort(id, asc ? SortDirection.ASCENDING : SortDirection.DESCENDING));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultList();
+    }
+
+    private CriteriaQuery<Tuple> consultaCampos(Specification<Todo> spec, Set<CampoTodo> colunas, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Todo> root = query.from(Todo.class);
+
+        List<Selection<?>> selecoes = new ArrayList<>();
+        for (CampoTodo coluna : colunas) {
+            selecoes.add(caminho(root, coluna).alias(coluna.getNome()));
+        }
+        query.multiselect(selecoes);
+        Predicate filtros = spec.toPredicate(root, query, cb);
+        if (filtros != null) {
+            query.where(filtros);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    // "tarefaPai.id" vira root.get("tarefaPai").get("id"), lido da chave estrangeira sem JOIN
+    private static Path<?> caminho(Root<Todo> root, CampoTodo coluna) {
+        Path<?> caminho = root;
+        for (String atributo : coluna.getAtributo().split("\\.")) {
+            caminho = caminho.get(atributo);
+        }
+        return caminho;
+    }
+
+    private static TodoSummaryDTO resumo(Tuple linha, Set<CampoTodo> colunas) {
+        return new TodoSummaryDTO(
+                valor(linha, colunas, CampoTodo.ID, Long.class),
+                valor(linha, colunas, CampoTodo.NOME, String.class),
+                valor(linha, colunas, CampoTodo.DESCRICAO, String.class),
+                valor(linha, colunas, CampoTodo.REALIZADO, Boolean.class),
+                valor(linha, colunas, CampoTodo.PRIORIDADE, Integer.class),
+                valor(linha, colunas, CampoTodo.DATA_VENCIMENTO, LocalDateTime.class),
+                valor(linha, colunas, CampoTodo.DATA_CRIACAO, LocalDateTime.class),
+                valor(linha, colunas, CampoTodo.DATA_ATUALIZACAO, LocalDateTime.class),
+                valor(linha, colunas, CampoTodo.TAREFA_PAI_ID, Long.class),
+                valor(linha, colunas, CampoTodo.VERSAO, Long.class));
+    }
+
+    private static <T> T valor(Tuple linha, Set<CampoTodo> colunas, CampoTodo coluna, Class<T> tipo) {
+        return colunas.contains(coluna) ? linha.get(coluna.getNome(), tipo) : null;
+    }
+
+    private long contar(Specification<Todo> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Todo> root = query.from(Todo.class);
+
+        query.select(cb.count(root));
+        Predicate filtros = spec.toPredicate(root, query, cb);
+        if (filtros != null) {
+            query.where(filtros);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TodoArvoreDTO> findArvore(Long id, int profundidade, int nivelMaximo) {
+        List<Object[]> linhas = entityManager.createNativeQuery(ARVORE)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", StandardBasicTypes.LONG)
+                .addScalar("tarefa_pai_id", StandardBasicTypes.LONG)
+                .addScalar("realizado", StandardBasicTypes.BOOLEAN)
+                .addScalar("nivel", StandardBasicTypes.INTEGER)
+                .addScalar("nome", StandardBasicTypes.STRING)
+                .addScalar("descricao", StandardBasicTypes.STRING)
+                .addScalar("prioridade", StandardBasicTypes.INTEGER)
+                .addScalar("data_vencimento", StandardBasicTypes.LOCAL_DATE_TIME)
+                .addScalar("data_criacao", StandardBasicTypes.LOCAL_DATE_TIME)
+                .addScalar("data_atualizacao", StandardBasicTypes.LOCAL_DATE_TIME)
+                .addScalar("versao", StandardBasicTypes.LONG)
+                .setParameter("id", id)
+                .setParameter("profundidade", profundidade)
+                .setParameter("nivelMaximo", nivelMaximo)
+                .getResultList();
+
+        List<TodoArvoreDTO> nos = new ArrayList<>(linhas.size());
+        for (Object[] linha : linhas) {
+            TodoArvoreDTO no = new TodoArvoreDTO();
+            no.setId((Long) linha[0]);
+            no.setTarefaPaiId((Long) linha[1]);
+            no.setRealizado((Boolean) linha[2]);
+            no.setNivel((Integer) linha[3]);
+            no.setNome((String) linha[4]);
+            no.setDescricao((String) linha[5]);
+            no.setPrioridade((Integer) linha[6]);
+            no.setDataVencimento((LocalDateTime) linha[7]);
+            no.setDataCriacao((LocalDateTime) linha[8]);
+            no.setDataAtualizacao((LocalDateTime) linha[9]);
+            no.setVersao((Long) linha[10]);
+            nos.add(no);
+        }
+        return nos;
+    }
+
+    private CompoundSelection<TodoSummaryDTO> resumo(CriteriaBuilder cb, Root<Todo> root) {
+        return cb.construct(TodoSummaryDTO.class,
+                root.get("id"),
+                root.get("nome"),
+                root.get("descricao"),
+                root.get("realizado"),
+                root.get("prioridade"),
+                root.get("dataVencimento"),
+                root.get("dataCriacao"),
+                root.get("dataAtualizacao"),
+                root.get("tarefaPai").get("id"),
+                root.get("versao"));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate aposCursor(HibernateCriteriaBuilder cb, Root<Todo> root, CampoOrdenacao campo,
+                                 Sort.Direction direcao, TodoCursor cursor) {
+        Expression<Long> id = root.get("id");
+        boolean asc = direcao.isAscending();
+        Predicate idSeguinte = asc ? cb.greaterThan(id, cursor.getId()) : cb.lessThan(id, cursor.getId());
+
+        if (campo == CampoOrdenacao.ID) {
+            return idSeguinte;
+        }
+
+        Expression coluna = root.get(campo.getAtributo());
+        Comparable valor = (Comparable) cursor.getValor();
+
+        if (valor == null) {
+            Predicate empateNulo = cb.and(cb.isNull(coluna), idSeguinte);
+            return asc ? cb.or(empateNulo, cb.isNotNull(coluna)) : empateNulo;
+        }
+
+        Predicate seguinte = asc ? cb.greaterThan(coluna, valor) : cb.lessThan(coluna, valor);
+        Predicate empate = cb.and(cb.equal(coluna, valor), idSeguinte);
+        if (!asc && campo.isAnulavel()) {
+            return cb.or(seguinte, empate, cb.isNull(coluna));
+        }
+        return cb.or(seguinte, empate);
+    }
+}
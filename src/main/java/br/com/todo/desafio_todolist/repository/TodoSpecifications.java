@@ -0,0 +1,109 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+// Monta a consulta apenas com os filtros informados, gerando um SQL próprio para cada combinação
+public final class TodoSpecifications {
+
+    private TodoSpecifications() {}
+
+    public static Specification<Todo> comFiltros(TodoFiltroDTO filtros) {
+        return comFiltros(filtros, semTarefaPai());
+    }
+
+    // Filtros aplicados sobre outra restrição no lugar de "somente tarefas principais"
+    public static Specification<Todo> comFiltros(TodoFiltroDTO filtros, Specification<Todo> base) {
+        Specification<Todo> spec = base;
+
+        if (filtros.getRealizado() != null) {
+            spec = spec.and(realizado(filtros.getRealizado()));
+        }
+        if (filtros.getPrioridade() != null) {
+            spec = spec.and(prioridade(filtros.getPrioridade()));
+        }
+        if (filtros.getDataInicio() != null) {
+            spec = spec.and(vencimentoAPartirDe(filtros.getDataInicio()));
+        }
+        if (filtros.getDataFim() != null) {
+            spec = spec.and(vencimentoAte(filtros.getDataFim()));
+        }
+        if (StringUtils.hasText(filtros.getNome())) {
+            spec = spec.and(nomeContem(filtros.getNome()));
+        }
+        if (filtros.getDataCriacaoInicio() != null) {
+            spec = spec.and(criadaAPartirDe(filtros.getDataCriacaoInicio()));
+        }
+        if (filtros.getDataCriacaoFim() != null) {
+            spec = spec.and(criadaAte(filtros.getDataCriacaoFim()));
+        }
+        if (filtros.getPossuiSubtarefas() != null) {
+            spec = spec.and(possuiSubtarefas(filtros.getPossuiSubtarefas()));
+        }
+
+        return spec;
+    }
+
+    public static Specification<Todo> semTarefaPai() {
+        return (root, query, cb) -> cb.isNull(root.get("tarefaPai"));
+    }
+
+    public static Specification<Todo> comIds(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
+    public static Specification<Todo> comTarefaPaiIds(Collection<Long> tarefaPaiIds) {
+        return (root, query, cb) -> root.get("tarefaPai").get("id").in(tarefaPaiIds);
+    }
+
+    public static Specification<Todo> realizado(Boolean realizado) {
+        return (root, query, cb) -> cb.equal(root.get("realizado"), realizado);
+    }
+
+    public static Specification<Todo> prioridade(Integer prioridade) {
+        return (root, query, cb) -> cb.equal(root.get("prioridade"), prioridade);
+    }
+
+    public static Specification<Todo> vencimentoAPartirDe(LocalDateTime data) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dataVencimento"), data);
+    }
+
+    public static Specification<Todo> vencimentoAte(LocalDateTime data) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dataVencimento"), data);
+    }
+
+    public static Specification<Todo> nomeContem(String texto) {
+        String padrao = "%" + escaparLike(texto.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get("nome")), padrao, '\\');
+    }
+
+    public static Specification<Todo> criadaAPartirDe(LocalDateTime data) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dataCriacao"), data);
+    }
+
+    public static Specification<Todo> criadaAte(LocalDateTime data) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dataCriacao"), data);
+    }
+
+    public static Specification<Todo> possuiSubtarefas(boolean possui) {
+        return (root, query, cb) -> {
+            Subquery<Long> subtarefas = query.subquery(Long.class);
+            Root<Todo> subtarefa = subtarefas.from(Todo.class);
+            subtarefas.select(subtarefa.get("id"))
+                    .where(cb.equal(subtarefa.get("tarefaPai").get("id"), root.get("id")));
+            return possui ? cb.exists(subtarefas) : cb.not(cb.exists(subtarefas));
+        };
+    }
+
+    private static String escaparLike(String texto) {
+        return texto.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.todo.desafio_todolist.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Executa a ação depois do commit da transação atual, ou imediatamente quando não há transação
+final class AposCommit {
+
+    private AposCommit() {
+    }
+
+    static void executar(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import br.com.todo.desafio_todolist.dto.LoteItemResultadoDTO;
+import br.com.todo.desafio_todolist.dto.TodoStatusLoteDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.exception.ResourceNotFoundException;
+import br.com.todo.desafio_todolist.exception.ServiceUnavailableException;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Gravação adiada de PATCH /todos/{id}/status (todo.status.write-behind). A alteração é validada na
+// requisição e entra em uma fila limitada; alterações repetidas da mesma tarefa ficam só com a última.
+// A fila é gravada pelo caminho do lote de status (mesmas regras, uma transação por lote) quando chega a
+// todo.status.fila.lote itens ou a cada todo.status.fila.intervalo, e por inteiro no desligamento.
+// Leituras e escritas de uma tarefa específica chamam aguardar(id) antes, para enxergar o que foi aceito;
+// só as alterações da tarefa e das suas subtarefas (em qualquer nível) são gravadas nesse momento.
+@Component
+@Profile("!reactive")
+public class FilaStatus {
+
+    private static final Logger log = LoggerFactory.getLogger(FilaStatus.class);
+
+    static final String FILA_CHEIA = "Fila de alterações de status cheia. Tente novamente em instantes.";
+    static final String FILA_ENCERRADA = "A aplicação está sendo encerrada. Tente novamente em instantes.";
+
+    private final TodoRepository todoRepository;
+    private final TodoLoteService todoLoteService;
+    private final TransactionTemplate leitura;
+    private final boolean ativa;
+    private final int capacidade;
+    private final int lote;
+    private final ExecutorService gravacao;
+    private final AtomicBoolean gravacaoAgendada = new AtomicBoolean();
+    private final Counter aplicadas;
+    private final Counter rejeitadas;
+    private final Counter recusadas;
+
+    // Protegidos por estado: a ordem de chegada é a ordem de gravação
+    private final ReentrantLock estado = new ReentrantLock();
+    private Map<Long, Pendente> fila = new LinkedHashMap<>();
+    private final Map<Long, Pendente> emGravacao = new LinkedHashMap<>();
+    private boolean encerrada;
+    // Uma gravação por vez; quem espera por ela enxerga o resultado já confirmado
+    private final ReentrantLock trava = new ReentrantLock();
+
+    public FilaStatus(TodoRepository todoRepository, TodoLoteService todoLoteService,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${todo.status.write-behind:false}") boolean ativa,
+                      @Value("${todo.status.fila.capacidade:10000}") int capacidade,
+                      @Value("${todo.status.fila.lote:500}") int lote,
+                      MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        this.todoLoteService = todoLoteService;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.ativa = ativa;
+        this.capacidade = capacidade;
+        this.lote = Math.min(lote, TodoLoteService.TAMANHO_MAXIMO_LOTE);
+        this.gravacao = Executors.newSingleThreadExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "todo-status-fila");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.aplicadas = Counter.builder("todo.status.fila.itens").tag("resultado", "aplicado").register(meterRegistry);
+        this.rejeitadas = Counter.builder("todo.status.fila.itens").tag("resultado", "rejeitado").register(meterRegistry);
+        this.recusadas = Counter.builder("todo.status.fila.itens").tag("resultado", "recusado").register(meterRegistry);
+        Gauge.builder("todo.status.fila", this, FilaStatus::tamanho).register(meterRegistry);
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    // Valida como PATCH /todos/{id}/status e enfileira. Concluir uma tarefa com subtarefas ainda na fila
+    // grava essas subtarefas antes, para a contagem de pendentes vir do banco.
+    public TodoStatusLoteDTO aceitar(Long id, boolean realizado) {
+        if (realizado) {
+            aguardar(pendente -> pendente.ancestrais().contains(id));
+        }
+
+        Pendente pendente = leitura.execute(status -> {
+            TodoSummaryDTO encontrado = todoRepository.findResumoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(TodoService.TODO_NAO_ENCONTRADO + id));
+            if (realizado) {
+                long pendentes = todoRepository.countSubtarefasPendentes(id);
+                if (pendentes > 0) {
+                    throw new BusinessException(String.format(TodoService.SUBTAREFAS_PENDENTES, pendentes));
+                }
+            }
+            return new Pendente(id, ancestrais(encontrado), realizado);
+        });
+
+        boolean gravarLote;
+        estado.lock();
+        try {
+            if (encerrada) {
+                recusadas.increment();
+                throw new ServiceUnavailableException(FILA_ENCERRADA);
+            }
+            if (!fila.containsKey(id) && fila.size() >= capacidade) {
+                recusadas.increment();
+                throw new ServiceUnavailableException(FILA_CHEIA);
+            }
+            // Mantém a posição da primeira alteração, como o agrupamento de eventos do SSE
+            fila.put(id, pendente);
+            gravarLote = fila.size() >= lote;
+        } finally {
+            estado.unlock();
+        }
+        if (gravarLote && gravacaoAgendada.compareAndSet(false, true)) {
+            gravacao.execute(() -> {
+                gravacaoAgendada.set(false);
+                gravar();
+            });
+        }
+        return new TodoStatusLoteDTO(id, realizado);
+    }
+
+    // Grava o que foi aceito para a tarefa e suas subtarefas (e espera a gravação em andamento que as
+    // inclua); alterações de outras tarefas seguem na fila
+    public void aguardar(Long id) {
+        aguardar(Set.of(id));
+    }
+
+    public void aguardar(Collection<Long> ids) {
+        aguardar(pendente -> ids.contains(pendente.id()) || pendente.ancestrais().stream().anyMatch(ids::contains));
+    }
+
+    private void aguardar(Predicate<Pendente> selecao) {
+        estado.lock();
+        try {
+            if (fila.values().stream().noneMatch(selecao) && emGravacao.values().stream().noneMatch(selecao)) {
+                return;
+            }
+        } finally {
+            estado.unlock();
+        }
+        gravar(selecao);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.status.fila.intervalo:PT0.2S}")
+    public void gravar() {
+        gravar(pendente -> true);
+    }
+
+    private void gravar(Predicate<Pendente> selecao) {
+        trava.lock();
+        try {
+            List<Pendente> pendentes = new ArrayList<>();
+            estado.lock();
+            try {
+                for (Iterator<Pendente> it = fila.values().iterator(); it.hasNext(); ) {
+                    Pendente pendente = it.next();
+                    if (selecao.test(pendente)) {
+                        pendentes.add(pendente);
+                        emGravacao.put(pendente.id(), pendente);
+                        it.remove();
+                    }
+                }
+            } finally {
+                estado.unlock();
+            }
+            if (pendentes.isEmpty()) {
+                return;
+            }
+
+            for (int inicio = 0; inicio < pendentes.size(); inicio += lote) {
+                List<Pendente> parte = pendentes.subList(inicio, Math.min(inicio + lote, pendentes.size()));
+                try {
+                    registrar(parte, todoLoteService.aplicarStatusLote(parte.stream().map(Pendente::item).toList()).getItens());
+                } catch (RuntimeException e) {
+                    devolver(pendentes.subList(inicio, pendentes.size()));
+                    throw e;
+                }
+            }
+        } finally {
+            estado.lock();
+            try {
+                emGravacao.clear();
+            } finally {
+                estado.unlock();
+            }
+            trava.unlock();
+        }
+    }
+
+    // Depois que o servidor parou de aceitar requisições: novas alterações são recusadas e a fila é gravada
+    @PreDestroy
+    public void encerrar() throws InterruptedException {
+        estado.lock();
+        try {
+            encerrada = true;
+        } finally {
+            estado.unlock();
+        }
+        gravacao.shutdown();
+        gravacao.awaitTermination(30, TimeUnit.SECONDS);
+        try {
+            gravar();
+        } catch (RuntimeException e) {
+            log.error("Alterações de status não gravadas no encerramento: {}", tamanho(), e);
+        }
+    }
+
+    // Ids dos ancestrais, do pai à raiz: decidem quais leituras precisam gravar a alteração antes
+    private List<Long> ancestrais(TodoSummaryDTO resumo) {
+        List<Long> ancestrais = new ArrayList<>();
+        for (Long paiId = resumo.getTarefaPaiId(); paiId != null && !ancestrais.contains(paiId); ) {
+            ancestrais.add(paiId);
+            paiId = todoRepository.findResumoById(paiId).map(TodoSummaryDTO::getTarefaPaiId).orElse(null);
+        }
+        return ancestrais;
+    }
+
+    private int tamanho() {
+        estado.lock();
+        try {
+            return fila.size() + emGravacao.size();
+        } finally {
+            estado.unlock();
+        }
+    }
+
+    private void registrar(List<Pendente> parte, List<LoteItemResultadoDTO> resultados) {
+        for (LoteItemResultadoDTO resultado : resultados) {
+            if (resultado.isSucesso()) {
+                aplicadas.increment();
+            } else {
+                // Mudou no banco depois de aceita (tarefa excluída, subtarefa reaberta por outra instância)
+                rejeitadas.increment();
+                log.warn("Alteração de status da tarefa {} descartada: {}", parte.get(resultado.getIndice()).id(),
+                        resultado.getMensagem());
+            }
+        }
+    }
+
+    // Banco indisponível: o que não foi gravado volta para o início da fila, exceto tarefas alteradas de novo
+    private void devolver(List<Pendente> pendentes) {
+        estado.lock();
+        try {
+            Map<Long, Pendente> restaurada = new LinkedHashMap<>();
+            pendentes.stream().filter(pendente -> !fila.containsKey(pendente.id()))
+                    .forEach(pendente -> restaurada.put(pendente.id(), pendente));
+            restaurada.putAll(fila);
+            fila = restaurada;
+        } finally {
+            estado.unlock();
+        }
+    }
+
+    private record Pendente(Long id, List<Long> ancestrais, boolean realizado) {
+
+        TodoStatusLoteDTO item() {
+            return new TodoStatusLoteDTO(id, realizado);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.exception.UnprocessableEntityException;
+
+// Idempotency-Key nas criações: a primeira requisição com a chave é executada e a resposta de sucesso é
+// guardada; as repetições dentro do TTL recebem a mesma resposta sem passar pelo serviço nem abrir transação.
+// Requisições simultâneas com a mesma chave esperam na trava do seu grupo (a chave define o grupo), então só
+// uma executa. No modo tabela as respostas valem para todas as instâncias, mas a trava é local: duas
+// instâncias recebendo a mesma chave ao mesmo tempo podem executar as duas.
+@Component
+@Profile("!reactive")
+public class Idempotencia {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String REPETIDA = "Idempotent-Replayed";
+
+    static final String CHAVE_INVALIDA = "Idempotency-Key deve ter entre 1 e %d caracteres.";
+    static final String CHAVE_REUTILIZADA = "Idempotency-Key já usada em uma requisição diferente.";
+
+    private static final int TAMANHO_MAXIMO_CHAVE = 255;
+    private static final String BUSCAR = "SELECT impressao, status, corpo FROM todo_idempotencia "
+            + "WHERE chave = ? AND data_criacao >= TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP)";
+    private static final String INSERIR = "INSERT INTO todo_idempotencia (chave, impressao, status, corpo, data_criacao) "
+            + "VALUES (?, ?, ?, ?, LOCALTIMESTAMP)";
+    // Só substitui uma linha vencida que ainda não foi apagada pela limpeza
+    private static final String SUBSTITUIR_VENCIDA = "UPDATE todo_idempotencia SET impressao = ?, status = ?, corpo = ?, "
+            + "data_criacao = LOCALTIMESTAMP WHERE chave = ? AND data_criacao < TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP)";
+    private static final String APAGAR_VENCIDAS =
+            "DELETE FROM todo_idempotencia WHERE data_criacao < TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP)";
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean tabela;
+    private final Duration ttl;
+    private final Cache<String, Resposta> memoria;
+    private final ReentrantLock[] travas;
+    private final MeterRegistry meterRegistry;
+
+    public Idempotencia(ObjectMapper objectMapper, JdbcTemplate jdbcTemplate,
+                        @Value("${todo.idempotencia.armazenamento:memoria}") String armazenamento,
+                        @Value("${todo.idempotencia.ttl:PT24H}") Duration ttl,
+                        @Value("${todo.idempotencia.capacidade:100000}") long capacidade,
+                        @Value("${todo.idempotencia.travas:64}") int travas,
+                        MeterRegistry meterRegistry) {
+        if (!List.of("memoria", "tabela").contains(armazenamento)) {
+            throw new IllegalArgumentException("todo.idempotencia.armazenamento deve ser memoria ou tabela: " + armazenamento);
+        }
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.tabela = armazenamento.equals("tabela");
+        this.ttl = ttl;
+        this.memoria = tabela ? null : Caffeine.newBuilder().maximumSize(capacidade).expireAfterWrite(ttl).build();
+        this.travas = new ReentrantLock[travas];
+        for (int i = 0; i < travas; i++) {
+            this.travas[i] = new ReentrantLock();
+        }
+        this.meterRegistry = meterRegistry;
+    }
+
+    // A impressão (operação + corpo) impede que a mesma chave seja reaproveitada para outra requisição
+    public <T> ResponseEntity<T> executar(String chave, String operacao, Object requisicao, Class<T> tipo,
+                                          Supplier<ResponseEntity<T>> acao) {
+        if (chave == null) {
+            return acao.get();
+        }
+        if (chave.isBlank() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            throw new BusinessException(String.format(CHAVE_INVALIDA, TAMANHO_MAXIMO_CHAVE));
+        }
+        String impressao = impressao(operacao, requisicao);
+
+        ResponseEntity<T> gravada = repetir(chave, impressao, tipo);
+        if (gravada != null) {
+            return gravada;
+        }
+
+        ReentrantLock trava = travas[Math.floorMod(chave.hashCode(), travas.length)];
+        trava.lock();
+        try {
+            // Outra requisição com a mesma chave pode ter terminado enquanto esta esperava
+            gravada = repetir(chave, impressao, tipo);
+            if (gravada != null) {
+                return gravada;
+            }
+            // Erros não são guardados: a próxima tentativa executa de novo
+            ResponseEntity<T> resposta = acao.get();
+            if (resposta.getStatusCode().is2xxSuccessful()) {
+                gravar(chave, new Resposta(impressao, resposta.getStatusCode().value(), json(resposta.getBody())));
+            }
+            contar("executada");
+            return resposta;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.idempotencia.limpeza:PT10M}", initialDelayString = "${todo.idempotencia.limpeza:PT10M}")
+    public void limpar() {
+        if (tabela) {
+            jdbcTemplate.update(APAGAR_VENCIDAS, -ttl.toSeconds());
+        }
+    }
+
+    private <T> ResponseEntity<T> repetir(String chave, String impressao, Class<T> tipo) {
+        Resposta resposta = buscar(chave);
+        if (resposta == null) {
+            return null;
+        }
+        if (!resposta.impressao().equals(impressao)) {
+            contar("divergente");
+            throw new UnprocessableEntityException(CHAVE_REUTILIZADA);
+        }
+        contar("repetida");
+        try {
+            return ResponseEntity.status(HttpStatusCode.valueOf(resposta.status()))
+                    .header(REPETIDA, "true")
+                    .body(objectMapper.readValue(resposta.corpo(), tipo));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Resposta guardada inválida para a chave " + chave, e);
+        }
+    }
+
+    private Resposta buscar(String chave) {
+        if (!tabela) {
+            return memoria.getIfPresent(chave);
+        }
+        List<Resposta> linhas = jdbcTemplate.query(BUSCAR,
+                (rs, i) -> new Resposta(rs.getString(1), rs.getInt(2), rs.getString(3)),
+                chave, -ttl.toSeconds());
+        return linhas.isEmpty() ? null : linhas.get(0);
+    }
+
+    private void gravar(String chave, Resposta resposta) {
+        if (!tabela) {
+            memoria.put(chave, resposta);
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERIR, chave, resposta.impressao(), resposta.status(), resposta.corpo());
+        } catch (DuplicateKeyException e) {
+            // Linha vencida ainda não apagada, ou outra instância gravou primeiro (a dela prevalece)
+            jdbcTemplate.update(SUBSTITUIR_VENCIDA, resposta.impressao(), resposta.status(), resposta.corpo(),
+                    chave, -ttl.toSeconds());
+        }
+    }
+
+    private String impressao(String operacao, Object requisicao) {
+        return DigestUtils.md5DigestAsHex((operacao + "\n" + json(requisicao)).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String json(Object valor) {
+        try {
+            return objectMapper.writeValueAsString(valor);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void contar(String resultado) {
+        meterRegistry.counter("todo.idempotencia", "resultado", resultado).increment();
+    }
+
+    private record Resposta(String impressao, int status, String corpo) {
+    }
+}
@@ -0,0 +1,358 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.StopFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.pt.PortugueseAnalyzer;
+import org.apache.lucene.analysis.pt.PortugueseLightStemFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Índice invertido (Lucene) sobre nome e descrição de todas as tarefas, usado por GET /todos/busca.
+// Guarda só o id: os filtros e os dados da resposta continuam vindo do banco.
+// As alterações são aplicadas após o commit e ficam visíveis na hora (leitor quase em tempo real);
+// o commit em disco é periódico. Sem diretório configurado o índice fica em memória e é refeito na subida.
+@Component
+@Profile("!reactive")
+public class IndiceBusca {
+
+    static final String BUSCA_VAZIA = "Informe ao menos um termo de busca.";
+    static final String REINDEXACAO_EM_ANDAMENTO = "Já existe uma reindexação em andamento.";
+
+    private static final String ID = "id";
+    private static final String NOME = "nome";
+    private static final String DESCRICAO = "descricao";
+    // Termo encontrado no nome pesa mais que na descrição
+    private static final float PESO_NOME = 2f;
+
+    private final TodoRepository todoRepository;
+    private final TransactionTemplate leitura;
+    private final int limite;
+    private final boolean emMemoria;
+    private final Analyzer analisador = new AnalisadorPortugues();
+    private final Directory diretorio;
+    // Trocados (sob a trava) quando uma reindexação falha e o escritor é descartado com rollback
+    private volatile IndexWriter escritor;
+    private volatile SearcherManager leitores;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    // Não nula durante a reindexação: guarda as alterações confirmadas nesse meio tempo
+    private List<Runnable> adiadas;
+
+    public IndiceBusca(TodoRepository todoRepository, PlatformTransactionManager transactionManager,
+                       @Value("${todo.busca.diretorio:}") String caminho,
+                       @Value("${todo.busca.limite:1000}") int limite,
+                       MeterRegistry meterRegistry) throws IOException {
+        this.todoRepository = todoRepository;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
+        this.limite = limite;
+        this.emMemoria = !StringUtils.hasText(caminho);
+        this.diretorio = emMemoria ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(caminho));
+        this.escritor = new IndexWriter(diretorio, new IndexWriterConfig(analisador));
+        this.leitores = new SearcherManager(escritor, null);
+        Gauge.builder("todo.busca.indice", this, indice -> indice.escritor.getDocStats().numDocs).register(meterRegistry);
+    }
+
+    // Ids ordenados por relevância (BM25). Todos os termos precisam aparecer no nome ou na descrição.
+    public List<Long> buscar(String texto) {
+        List<String> termos = termos(texto);
+        if (termos.isEmpty()) {
+            throw new BusinessException(BUSCA_VAZIA);
+        }
+
+        BooleanQuery.Builder consulta = new BooleanQuery.Builder();
+        for (String termo : termos) {
+            BooleanQuery porCampo = new BooleanQuery.Builder()
+                    .add(new BoostQuery(new TermQuery(new Term(NOME, termo)), PESO_NOME), BooleanClause.Occur.SHOULD)
+                    .add(new TermQuery(new Term(DESCRICAO, termo)), BooleanClause.Occur.SHOULD)
+                    .build();
+            consulta.add(porCampo, BooleanClause.Occur.MUST);
+        }
+
+        SearcherManager leitores = this.leitores;
+        try {
+            IndexSearcher buscador = leitores.acquire();
+            try {
+                ScoreDoc[] encontrados = buscador.search(consulta.build(), limite).scoreDocs;
+                StoredFields campos = buscador.storedFields();
+                List<Long> ids = new ArrayList<>(encontrados.length);
+                for (ScoreDoc encontrado : encontrados) {
+                    ids.add(Long.valueOf(campos.document(encontrado.doc).get(ID)));
+                }
+                return ids;
+            } finally {
+                leitores.release(buscador);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void atualizar(Todo todo) {
+        atualizarLote(List.of(todo));
+    }
+
+    public void atualizarLote(Collection<Todo> todos) {
+        List<Document> documentos = todos.stream().map(todo -> documento(todo.getId(), todo.getNome(), todo.getDescricao())).toList();
+        AposCommit.executar(() -> aplicar(() -> {
+            for (Document documento : documentos) {
+                escritor.updateDocument(new Term(ID, documento.get(ID)), documento);
+            }
+        }));
+    }
+
+    public void remover(Long id) {
+        removerLote(List.of(id));
+    }
+
+    public void removerLote(Collection<Long> ids) {
+        Term[] termos = ids.stream().map(id -> new Term(ID, id.toString())).toArray(Term[]::new);
+        AposCommit.executar(() -> aplicar(() -> escritor.deleteDocuments(termos)));
+    }
+
+    // Refaz o índice a partir do banco em um índice separado, que só substitui o atual no final, sob a trava:
+    // buscas e o commit periódico nunca veem um índice pela metade. Alterações confirmadas durante a leitura
+    // são aplicadas depois da troca, por cima do que foi lido, para não serem sobrescritas por um estado anterior.
+    // A troca começa com um commit do índice atual; se falhar antes do commit final, o rollback volta a ele.
+    public int reindexar() {
+        trava.lock();
+        try {
+            if (adiadas != null) {
+                throw new BusinessException(REINDEXACAO_EM_ANDAMENTO);
+            }
+            adiadas = new ArrayList<>();
+        } finally {
+            trava.unlock();
+        }
+        try (Directory novo = new ByteBuffersDirectory()) {
+            int total = construir(novo);
+            trava.lock();
+            try {
+                escritor.commit();
+                try {
+                    escritor.deleteAll();
+                    escritor.addIndexes(novo);
+                    adiadas.forEach(Runnable::run);
+                    escritor.commit();
+                } catch (IOException | RuntimeException e) {
+                    restaurar();
+                    throw e;
+                }
+                adiadas = null;
+                atualizarLeitores();
+            } finally {
+                trava.unlock();
+            }
+            return total;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.lock();
+            try {
+                // Falha na leitura ou na troca: o índice anterior (restaurado pelo rollback) continua valendo,
+                // e as alterações do meio tempo são aplicadas sobre ele
+                if (adiadas != null) {
+                    adiadas.forEach(Runnable::run);
+                    adiadas = null;
+                }
+            } finally {
+                trava.unlock();
+            }
+        }
+    }
+
+    // Em disco, o índice existente é reaproveitado enquanto tiver um documento por tarefa; se o banco mudou com
+    // a aplicação parada (quantidade diferente), é refeito
+    @EventListener(ApplicationReadyEvent.class)
+    public void carregar() {
+        if (emMemoria || escritor.getDocStats().numDocs != todoRepository.count()) {
+            reindexar();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.busca.commit:PT30S}", initialDelayString = "${todo.busca.commit:PT30S}")
+    public void confirmar() {
+        trava.lock();
+        try {
+            if (escritor.hasUncommittedChanges()) {
+                escritor.commit();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void encerrar() throws IOException {
+        leitores.close();
+        escritor.close();
+        diretorio.close();
+    }
+
+    private void aplicar(Alteracao alteracao) {
+        Runnable execucao = () -> {
+            try {
+                alteracao.executar();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            atualizarLeitores();
+        };
+        // Sob a trava para não se intercalar com a troca do índice nem com o commit
+        trava.lock();
+        try {
+            if (adiadas != null) {
+                adiadas.add(execucao);
+                return;
+            }
+            execucao.run();
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    // Descarta tudo desde o último commit (a limpeza e o que foi adicionado) e reabre o escritor e os leitores
+    private void restaurar() throws IOException {
+        SearcherManager anteriores = leitores;
+        escritor.rollback();
+        escritor = new IndexWriter(diretorio, new IndexWriterConfig(analisador));
+        leitores = new SearcherManager(escritor, null);
+        anteriores.close();
+    }
+
+    // Visível no pacote para os testes simularem uma falha na troca
+    int construir(Directory destino) throws IOException {
+        AtomicInteger total = new AtomicInteger();
+        try (IndexWriter novo = new IndexWriter(destino, new IndexWriterConfig(analisador))) {
+            leitura.executeWithoutResult(status -> {
+                try (Stream<TodoSummaryDTO> resumos = todoRepository.streamResumos()) {
+                    resumos.forEach(resumo -> {
+                        try {
+                            novo.addDocument(documento(resumo.getId(), resumo.getNome(), resumo.getDescricao()));
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                        total.incrementAndGet();
+                    });
+                }
+            });
+        }
+        return total.get();
+    }
+
+    // Bloqueante para que a própria requisição já encontre o que acabou de gravar
+    private void atualizarLeitores() {
+        try {
+            leitores.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<String> termos(String texto) {
+        List<String> termos = new ArrayList<>();
+        if (!StringUtils.hasText(texto)) {
+            return termos;
+        }
+        try (TokenStream tokens = analisador.tokenStream(NOME, texto)) {
+            CharTermAttribute termo = tokens.addAttribute(CharTermAttribute.class);
+            tokens.reset();
+            while (tokens.incrementToken()) {
+                if (!termos.contains(termo.toString())) {
+                    termos.add(termo.toString());
+                }
+            }
+            tokens.end();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return termos;
+    }
+
+    private static Document documento(Long id, String nome, String descricao) {
+        Document documento = new Document();
+        documento.add(new StringField(ID, id.toString(), Field.Store.YES));
+        documento.add(new TextField(NOME, nome, Field.Store.NO));
+        if (descricao != null) {
+            documento.add(new TextField(DESCRICAO, descricao, Field.Store.NO));
+        }
+        return documento;
+    }
+
+    @FunctionalInterface
+    private interface Alteracao {
+        void executar() throws IOException;
+    }
+
+    // Minúsculas, sem stopwords do português, radical leve (plural e gênero) e sem acentos,
+    // para "Relatórios" encontrar "relatorio"
+    private static final class AnalisadorPortugues extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(String campo) {
+            Tokenizer origem = new StandardTokenizer();
+            TokenStream tokens = new LowerCaseFilter(origem);
+            tokens = new StopFilter(tokens, PortugueseAnalyzer.getDefaultStopSet());
+            tokens = new PortugueseLightStemFilter(tokens);
+            tokens = new ASCIIFoldingFilter(tokens);
+            return new TokenStreamComponents(origem, tokens);
+        }
+
+        @Override
+        protected TokenStream normalize(String campo, TokenStream entrada) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(entrada));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Índice em memória das tarefas principais pendentes com data de vencimento, ordenado por
+// (dataVencimento, id). Atende GET /todos/vencidas e /todos/vencimento-proximo sem consultar o banco.
+// As alterações são aplicadas após o commit; a recarga periódica cobre escritas feitas por outras instâncias.
+@Component
+@Profile("!reactive")
+public class IndiceVencimentos {
+
+    private final TodoRepository todoRepository;
+
+    private final ReentrantLock trava = new ReentrantLock();
+    private volatile Indice indice = new Indice();
+    // Alterações aplicadas enquanto uma recarga consulta o banco, repetidas no índice novo antes da troca;
+    // null fora da recarga. Protegido pela trava.
+    private List<Consumer<Indice>> duranteRecarga;
+
+    public IndiceVencimentos(TodoRepository todoRepository, MeterRegistry meterRegistry) {
+        this.todoRepository = todoRepository;
+        Gauge.builder("todo.vencimentos.indice", this, IndiceVencimentos::tamanho).register(meterRegistry);
+    }
+
+    public List<TodoSummaryDTO> vencidas(LocalDateTime agora) {
+        Indice atual = indice;
+        // Tarefas que venceram depois da última passagem do agendador. Lidas antes de vencidas porque o
+        // agendador inclui em vencidas antes de retirar daqui; o TreeMap descarta a eventual duplicata.
+        NavigableMap<Chave, TodoSummaryDTO> resultado = new TreeMap<>(atual.aVencer.headMap(Chave.inicio(agora), false));
+        resultado.putAll(atual.vencidas);
+        return new ArrayList<>(resultado.values());
+    }
+
+    public List<TodoSummaryDTO> aVencer(LocalDateTime inicio, LocalDateTime fim) {
+        if (fim.isBefore(inicio)) {
+            return List.of();
+        }
+        return new ArrayList<>(indice.aVencer.subMap(Chave.inicio(inicio), true, Chave.fim(fim), true).values());
+    }
+
+    public int tamanho() {
+        Indice atual = indice;
+        return atual.vencidas.size() + atual.aVencer.size();
+    }
+
+    public void atualizar(Todo todo) {
+        atualizarLote(List.of(todo));
+    }
+
+    public void atualizarLote(Collection<Todo> todos) {
+        List<TodoSummaryDTO> resumos = todos.stream().map(TodoSummaryDTO::of).toList();
+        aposCommit(alvo -> resumos.forEach(resumo -> alvo.atualizar(resumo, LocalDateTime.now())));
+    }
+
+    public void remover(Long id) {
+        removerLote(List.of(id));
+    }
+
+    public void removerLote(Collection<Long> ids) {
+        List<Long> copia = List.copyOf(ids);
+        aposCommit(alvo -> copia.forEach(alvo::remover));
+    }
+
+    // Move para vencidas o que passou do prazo, mantendo a faixa "a vencer" restrita ao futuro
+    @Scheduled(fixedDelayString = "${todo.vencimentos.intervalo:PT1M}", initialDelayString = "${todo.vencimentos.intervalo:PT1M}")
+    public void avancar() {
+        trava.lock();
+        try {
+            indice.avancar(LocalDateTime.now());
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${todo.vencimentos.recarga:PT10M}", initialDelayString = "${todo.vencimentos.recarga:PT10M}")
+    public void recarregar() {
+        trava.lock();
+        try {
+            if (duranteRecarga != null) {
+                return;
+            }
+            duranteRecarga = new ArrayList<>();
+        } finally {
+            trava.unlock();
+        }
+
+        // A consulta roda sem a trava; os commits concluídos enquanto isso seguem no índice atual
+        // e são repetidos no novo, que pode ter lido o estado anterior a eles
+        Indice novo = new Indice();
+        try {
+            LocalDateTime agora = LocalDateTime.now();
+            todoRepository.findTarefasPendentesComVencimento().forEach(resumo -> novo.atualizar(resumo, agora));
+        } catch (RuntimeException e) {
+            trava.lock();
+            try {
+                duranteRecarga = null;
+            } finally {
+                trava.unlock();
+            }
+            throw e;
+        }
+
+        trava.lock();
+        try {
+            duranteRecarga.forEach(alteracao -> alteracao.accept(novo));
+            novo.avancar(LocalDateTime.now());
+            indice = novo;
+            duranteRecarga = null;
+        } finally {
+            trava.unlock();
+        }
+    }
+
+    private void aposCommit(Consumer<Indice> alteracao) {
+        AposCommit.executar(() -> {
+            trava.lock();
+            try {
+                alteracao.accept(indice);
+                if (duranteRecarga != null) {
+                    duranteRecarga.add(alteracao);
+                }
+            } finally {
+                trava.unlock();
+            }
+        });
+    }
+
+    private static final class Indice {
+        private final NavigableMap<Chave, TodoSummaryDTO> aVencer = new ConcurrentSkipListMap<>();
+        private final NavigableMap<Chave, TodoSummaryDTO> vencidas = new ConcurrentSkipListMap<>();
+        private final Map<Long, Chave> chaves = new ConcurrentHashMap<>();
+
+        void atualizar(TodoSummaryDTO resumo, LocalDateTime agora) {
+            remover(resumo.getId());
+            if (resumo.getTarefaPaiId() != null || Boolean.TRUE.equals(resumo.getRealizado()) || resumo.getDataVencimento() == null) {
+                return;
+            }
+            Chave chave = new Chave(resumo.getDataVencimento(), resumo.getId());
+            chaves.put(resumo.getId(), chave);
+            (chave.dataVencimento.isBefore(agora) ? vencidas : aVencer).put(chave, resumo);
+        }
+
+        void remover(Long id) {
+            Chave chave = chaves.remove(id);
+            if (chave != null) {
+                aVencer.remove(chave);
+                vencidas.remove(chave);
+            }
+        }
+
+        void avancar(LocalDateTime agora) {
+            NavigableMap<Chave, TodoSummaryDTO> vencidasAgora = aVencer.headMap(Chave.inicio(agora), false);
+            vencidas.putAll(vencidasAgora);
+            vencidasAgora.clear();
+        }
+    }
+
+    private record Chave(LocalDateTime dataVencimento, Long id) implements Comparable<Chave> {
+
+        static Chave inicio(LocalDateTime dataVencimento) {
+            return new Chave(dataVencimento, Long.MIN_VALUE);
+        }
+
+        static Chave fim(LocalDateTime dataVencimento) {
+            return new Chave(dataVencimento, Long.MAX_VALUE);
+        }
+
+        @Override
+        public int compareTo(Chave outra) {
+            int comparacao = dataVencimento.compareTo(outra.dataVencimento);
+            return comparacao != 0 ? comparacao : Long.compare(id, outra.id);
+        }
+    }
+}
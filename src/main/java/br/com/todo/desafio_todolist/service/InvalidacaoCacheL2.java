@@ -0,0 +1,214 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+
+// Mantém o cache de segundo nível coerente entre instâncias (profile cache-l2). As escritas de Todo
+// confirmadas nesta instância são gravadas na tabela todo_invalidacoes; as gravadas pelas outras são
+// lidas periodicamente e removidas do cache local: a tarefa, as subtarefas do pai e as consultas.
+// Sem o cache de segundo nível o componente fica inativo.
+@Component
+@Profile("!reactive")
+public class InvalidacaoCacheL2 {
+
+    private static final String INSERIR =
+            "INSERT INTO todo_invalidacoes (instancia, todo_id, tarefa_pai_id, data_criacao) VALUES (?, ?, ?, LOCALTIMESTAMP)";
+    // Relê a janela inteira a cada passagem: ids gerados fora da ordem de commit não são perdidos
+    private static final String RECENTES = "SELECT id, todo_id, tarefa_pai_id FROM todo_invalidacoes "
+            + "WHERE data_criacao >= TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP) AND instancia <> ?";
+    private static final String APAGAR_ANTIGAS =
+            "DELETE FROM todo_invalidacoes WHERE data_criacao < TIMESTAMPADD(SECOND, ?, LOCALTIMESTAMP)";
+    private static final String SUBTAREFAS = Todo.class.getName() + ".subtarefas";
+
+    private final String instancia = UUID.randomUUID().toString();
+    private final JdbcTemplate jdbcTemplate;
+    private final Cache cache;
+    private final boolean ativo;
+    private final Duration janela;
+    private final Duration retencao;
+    private final Counter enviadas;
+    private final Counter recebidas;
+
+    private final Queue<Alteracao> pendentes = new ConcurrentLinkedQueue<>();
+    // Linhas já aplicadas (id -> instante da leitura), esquecidas quando saem da janela. Só a passagem
+    // agendada usa o mapa, e com fixedDelay uma passagem nunca começa antes de a anterior terminar
+    private final Map<Long, Long> aplicadas = new HashMap<>();
+
+    public InvalidacaoCacheL2(EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                              @Value("${todo.cache.l2.janela:PT30S}") Duration janela,
+                              @Value("${todo.cache.l2.retencao:PT1H}") Duration retencao,
+                              MeterRegistry meterRegistry) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.jdbcTemplate = jdbcTemplate;
+        this.cache = sessionFactory.getCache();
+        this.ativo = sessionFactory.getSessionFactoryOptions().isSecondLevelCacheEnabled();
+        this.janela = janela;
+        this.retencao = retencao;
+        this.enviadas = Counter.builder("todo.cache.l2.invalidacoes").tag("direcao", "enviada").register(meterRegistry);
+        this.recebidas = Counter.builder("todo.cache.l2.invalidacoes").tag("direcao", "recebida").register(meterRegistry);
+
+        if (ativo) {
+            // Inclusões, alterações e exclusões de entidades, inclusive as em cascata
+            EventListenerRegistry registro = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+            Ouvinte ouvinte = new Ouvinte();
+            registro.appendListeners(EventType.POST_COMMIT_INSERT, ouvinte);
+            registro.appendListeners(EventType.POST_COMMIT_UPDATE, ouvinte);
+            registro.appendListeners(EventType.POST_COMMIT_DELETE, ouvinte);
+        }
+    }
+
+    // Exclusões em massa (DELETE por JPQL) não passam pelos eventos de entidade
+    public void removidas(Collection<Todo> todos) {
+        if (!ativo) {
+            return;
+        }
+        List<Alteracao> alteracoes = todos.stream().map(Alteracao::de).toList();
+        AposCommit.executar(() -> pendentes.addAll(alteracoes));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.cache.l2.intervalo:PT1S}")
+    public void sincronizar() {
+        if (!ativo) {
+            return;
+        }
+        publicar();
+        receber();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.cache.l2.retencao:PT1H}", initialDelayString = "${todo.cache.l2.retencao:PT1H}")
+    public void limpar() {
+        if (ativo) {
+            jdbcTemplate.update(APAGAR_ANTIGAS, -retencao.toSeconds());
+        }
+    }
+
+    private void publicar() {
+        List<Alteracao> lote = new ArrayList<>();
+        for (Alteracao alteracao = pendentes.poll(); alteracao != null; alteracao = pendentes.poll()) {
+            lote.add(alteracao);
+        }
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERIR, lote, lote.size(), (ps, alteracao) -> {
+                ps.setString(1, instancia);
+                ps.setLong(2, alteracao.todoId());
+                ps.setObject(3, alteracao.tarefaPaiId());
+            });
+            enviadas.increment(lote.size());
+        } catch (RuntimeException e) {
+            // Banco indisponível: as alterações voltam para a fila e seguem na próxima passagem
+            pendentes.addAll(lote);
+            throw e;
+        }
+    }
+
+    private void receber() {
+        long agora = System.nanoTime();
+        aplicadas.values().removeIf(lidaEm -> agora - lidaEm > janela.toNanos() * 2);
+
+        List<Alteracao> novas = new ArrayList<>();
+        jdbcTemplate.query(RECENTES, rs -> {
+            if (aplicadas.putIfAbsent(rs.getLong(1), agora) == null) {
+                novas.add(new Alteracao(rs.getLong(2), rs.getObject(3, Long.class)));
+            }
+        }, -janela.toSeconds(), instancia);
+        if (novas.isEmpty()) {
+            return;
+        }
+
+        for (Alteracao alteracao : novas) {
+            cache.evictEntityData(Todo.class, alteracao.todoId());
+            cache.evictCollectionData(SUBTAREFAS, alteracao.todoId());
+            if (alteracao.tarefaPaiId() != null) {
+                cache.evictCollectionData(SUBTAREFAS, alteracao.tarefaPaiId());
+            }
+        }
+        // Os timestamps de escrita por tabela são locais, então resultados de consultas não enxergam
+        // escritas de outras instâncias: todas as regiões de consulta são descartadas, depois das
+        // entidades, para que uma consulta executada no meio não volte a guardar tarefas antigas
+        cache.evictQueryRegions();
+        recebidas.increment(novas.size());
+    }
+
+    private record Alteracao(Long todoId, Long tarefaPaiId) {
+
+        static Alteracao de(Todo todo) {
+            // O id de um proxy não inicializado é lido sem consultar o banco
+            return new Alteracao(todo.getId(), todo.getTarefaPai() != null ? todo.getTarefaPai().getId() : null);
+        }
+    }
+
+    private final class Ouvinte implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+            PostCommitDeleteEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent evento) {
+            registrar(evento.getEntity());
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent evento) {
+            registrar(evento.getEntity());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent evento) {
+            registrar(evento.getEntity());
+        }
+
+        @Override
+        public void onPostInsertCommitFailed(PostInsertEvent evento) {
+        }
+
+        @Override
+        public void onPostUpdateCommitFailed(PostUpdateEvent evento) {
+        }
+
+        @Override
+        public void onPostDeleteCommitFailed(PostDeleteEvent evento) {
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return persister.getMappedClass() == Todo.class;
+        }
+
+        private void registrar(Object entidade) {
+            if (entidade instanceof Todo todo) {
+                pendentes.add(Alteracao.de(todo));
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import br.com.todo.desafio_todolist.dto.TodoArvoreDTO;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.exception.ResourceNotFoundException;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Monta a árvore de GET /todos/{id}/arvore em memória a partir de uma única consulta recursiva
+@Service
+@Timed(TodoService.METRICA)
+@Transactional(readOnly = true)
+@Profile("!reactive")
+public class TodoArvoreService {
+
+    // Limite da recursão no banco, também usado quando a profundidade não é informada
+    static final int PROFUNDIDADE_MAXIMA = 50;
+
+    private static final Comparator<TodoArvoreDTO> ORDEM_SUBTAREFAS = Comparator
+            .comparing(TodoArvoreDTO::getPrioridade, Comparator.reverseOrder())
+            .thenComparing(TodoArvoreDTO::getNome)
+            .thenComparing(TodoArvoreDTO::getId);
+
+    private final TodoRepository todoRepository;
+
+    public TodoArvoreService(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public TodoArvoreDTO arvore(Long id, Integer profundidade, Integer limiteSubtarefas) {
+        int nivelLimite = profundidade != null ? profundidade : PROFUNDIDADE_MAXIMA;
+        if (nivelLimite < 0 || nivelLimite > PROFUNDIDADE_MAXIMA) {
+            throw new BusinessException("A profundidade deve estar entre 0 e " + PROFUNDIDADE_MAXIMA + ".");
+        }
+        if (limiteSubtarefas != null && limiteSubtarefas < 1) {
+            throw new BusinessException("O limite de subtarefas deve ser maior que zero.");
+        }
+
+        List<TodoArvoreDTO> nos = todoRepository.findArvore(id, nivelLimite, PROFUNDIDADE_MAXIMA);
+        if (nos.isEmpty()) {
+            throw new ResourceNotFoundException(TodoService.TODO_NAO_ENCONTRADO + id);
+        }
+
+        Map<Long, TodoArvoreDTO> porId = new HashMap<>();
+        nos.forEach(no -> porId.put(no.getId(), no));
+
+        // Os nós vêm ordenados por nível: percorrendo do fim, cada nó já tem as contagens
+        // dos seus descendentes quando é somado ao pai. O primeiro nó é a raiz.
+        for (int i = nos.size() - 1; i > 0; i--) {
+            TodoArvoreDTO no = nos.get(i);
+            TodoArvoreDTO pai = porId.get(no.getTarefaPaiId());
+            int concluido = Boolean.TRUE.equals(no.getRealizado()) ? 1 : 0;
+
+            pai.setTotalSubtarefas(pai.getTotalSubtarefas() + 1);
+            pai.setTotalDescendentes(pai.getTotalDescendentes() + 1 + no.getTotalDescendentes());
+            pai.setDescendentesConcluidos(pai.getDescendentesConcluidos() + concluido + no.getDescendentesConcluidos());
+            if (no.getNivel() <= nivelLimite) {
+                pai.getSubtarefas().add(no);
+            }
+        }
+
+        for (TodoArvoreDTO no : nos) {
+            List<TodoArvoreDTO> subtarefas = no.getSubtarefas();
+            if (subtarefas.isEmpty()) {
+                continue;
+            }
+            subtarefas.sort(ORDEM_SUBTAREFAS);
+            if (limiteSubtarefas != null && subtarefas.size() > limiteSubtarefas) {
+                no.setSubtarefas(subtarefas.subList(0, limiteSubtarefas));
+            }
+        }
+        return nos.get(0);
+    }
+}
@@ -0,0 +1,117 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+
+// Cache das respostas de GET /todos/{id} e GET /todos/{id}/subtarefas.
+// Tamanho, TTL e estatísticas vêm de spring.cache.caffeine.spec.
+// Cada remoção incrementa a geração do id; uma leitura que carregou do banco antes da remoção
+// não deixa o valor no cache, mesmo que o put aconteça depois dela.
+@Component
+public class TodoCache {
+
+    public static final String TODOS = "todos";
+    public static final String SUBTAREFAS = "subtarefas";
+
+    private static final int GERACOES = 4096;
+
+    private final Cache todos;
+    private final Cache subtarefas;
+    // Gerações por faixa de ids: uma colisão só faz uma leitura deixar de guardar o valor
+    private final AtomicLongArray geracoes = new AtomicLongArray(GERACOES);
+
+    public TodoCache(CacheManager cacheManager) {
+        this.todos = cacheManager.getCache(TODOS);
+        this.subtarefas = cacheManager.getCache(SUBTAREFAS);
+    }
+
+    public TodoResponseDTO getTodo(Long id, Supplier<TodoResponseDTO> carregar) {
+        TodoResponseDTO todo = todos.get(id, TodoResponseDTO.class);
+        if (todo == null) {
+            long geracao = geracao(id);
+            todo = carregar.get();
+            guardar(todos, id, todo, geracao);
+        }
+        return todo;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<TodoResponseDTO> getSubtarefas(Long tarefaPaiId, Supplier<List<TodoResponseDTO>> carregar) {
+        List<TodoResponseDTO> lista = subtarefas.get(tarefaPaiId, List.class);
+        if (lista == null) {
+            long geracao = geracao(tarefaPaiId);
+            lista = carregar.get();
+            guardar(subtarefas, tarefaPaiId, lista, geracao);
+        }
+        return lista;
+    }
+
+    // A resposta de cada ancestral inclui a árvore de subtarefas, então todos eles são invalidados
+    public void invalidar(Todo todo) {
+        invalidarLote(List.of(todo));
+    }
+
+    public void invalidarLote(Collection<Todo> todos) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (Todo todo : todos) {
+            // Para na primeira tarefa já visitada: os ancestrais dela já estão no conjunto
+            Todo atual = todo;
+            while (atual != null && ids.add(atual.getId())) {
+                atual = atual.getTarefaPai();
+            }
+        }
+        invalidar(new ArrayList<>(ids));
+    }
+
+    public void invalidar(List<Long> ids) {
+        remover(ids);
+
+        // Remove de novo após o commit para descartar leituras feitas durante a transação
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remover(ids);
+                }
+            });
+        }
+    }
+
+    // A remoção incrementa a geração antes de remover; quem guardou depois confere a geração e remove o próprio put
+    private void guardar(Cache cache, Long id, Object valor, long geracao) {
+        cache.put(id, valor);
+        if (geracao(id) != geracao) {
+            cache.evict(id);
+        }
+    }
+
+    private void remover(List<Long> ids) {
+        for (Long id : ids) {
+            geracoes.incrementAndGet(indice(id));
+            todos.evict(id);
+            subtarefas.evict(id);
+        }
+    }
+
+    private long geracao(Long id) {
+        return geracoes.get(indice(id));
+    }
+
+    private static int indice(Long id) {
+        return Math.floorMod(id.hashCode(), GERACOES);
+    }
+}
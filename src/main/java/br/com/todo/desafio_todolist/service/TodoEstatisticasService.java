@@ -0,0 +1,92 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import br.com.todo.desafio_todolist.dto.AgrupamentoEstatistica;
+import br.com.todo.desafio_todolist.dto.DataEstatistica;
+import br.com.todo.desafio_todolist.dto.EstatisticaPeriodoDTO;
+import br.com.todo.desafio_todolist.dto.EstatisticaPrioridadeDTO;
+import br.com.todo.desafio_todolist.dto.TodoEstatisticasDTO;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Agregados de GET /todos/estatisticas sobre as tarefas principais, calculados com GROUP BY.
+// O banco devolve no máximo uma linha por prioridade e uma por dia do intervalo pedido.
+@Service
+@Timed(TodoService.METRICA)
+@Transactional(readOnly = true)
+@Profile("!reactive")
+public class TodoEstatisticasService {
+
+    // Mantém a resposta limitada mesmo com intervalos longos
+    static final int MAXIMO_PERIODOS = 366;
+
+    private final TodoRepository todoRepository;
+
+    public TodoEstatisticasService(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public TodoEstatisticasDTO estatisticas(String agrupamento, String data, LocalDate inicio, LocalDate fim) {
+        List<EstatisticaPrioridadeDTO> porPrioridade = todoRepository.findEstatisticasPorPrioridade(LocalDateTime.now());
+        long total = 0;
+        long concluidas = 0;
+        long vencidas = 0;
+        for (EstatisticaPrioridadeDTO prioridade : porPrioridade) {
+            total += prioridade.getTotal();
+            concluidas += prioridade.getConcluidas();
+            vencidas += prioridade.getVencidas();
+        }
+
+        List<EstatisticaPeriodoDTO> periodos = agrupamento != null
+                ? periodos(AgrupamentoEstatistica.fromNome(agrupamento), DataEstatistica.fromNome(data), inicio, fim)
+                : List.of();
+        return new TodoEstatisticasDTO(total, concluidas, vencidas, porPrioridade, periodos);
+    }
+
+    private List<EstatisticaPeriodoDTO> periodos(AgrupamentoEstatistica agrupamento, DataEstatistica data,
+                                                 LocalDate inicio, LocalDate fim) {
+        if (inicio == null || fim == null) {
+            throw new BusinessException("Informe inicio e fim para agrupar por período.");
+        }
+        if (fim.isBefore(inicio)) {
+            throw new BusinessException("A data final deve ser igual ou posterior à inicial.");
+        }
+
+        // Períodos completos: do início do primeiro ao início do seguinte ao último, todos zerados
+        Map<LocalDate, long[]> contagens = new LinkedHashMap<>();
+        LocalDate limite = agrupamento.proximoPeriodo(agrupamento.inicioDoPeriodo(fim));
+        for (LocalDate periodo = agrupamento.inicioDoPeriodo(inicio); periodo.isBefore(limite); periodo = agrupamento.proximoPeriodo(periodo)) {
+            if (contagens.size() == MAXIMO_PERIODOS) {
+                throw new BusinessException("O intervalo deve ter no máximo " + MAXIMO_PERIODOS + " períodos.");
+            }
+            contagens.put(periodo, new long[2]);
+        }
+
+        LocalDateTime de = agrupamento.inicioDoPeriodo(inicio).atStartOfDay();
+        LocalDateTime ate = limite.atStartOfDay();
+        List<EstatisticaPeriodoDTO> dias = data == DataEstatistica.CRIACAO
+                ? todoRepository.findEstatisticasPorDiaDeCriacao(de, ate)
+                : todoRepository.findEstatisticasPorDiaDeVencimento(de, ate);
+        for (EstatisticaPeriodoDTO dia : dias) {
+            long[] contagem = contagens.get(agrupamento.inicioDoPeriodo(dia.getInicio()));
+            contagem[0] += dia.getTotal();
+            contagem[1] += dia.getConcluidas();
+        }
+
+        List<EstatisticaPeriodoDTO> periodos = new ArrayList<>(contagens.size());
+        contagens.forEach((periodo, contagem) -> periodos.add(new EstatisticaPeriodoDTO(periodo, contagem[0], contagem[1])));
+        return periodos;
+    }
+}
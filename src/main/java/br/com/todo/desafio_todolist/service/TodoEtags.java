@@ -0,0 +1,82 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import org.springframework.util.DigestUtils;
+
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+
+// ETags calculados a partir das versões, sem serializar a resposta (fortes, exceto nas listagens paginadas).
+// A resposta de uma tarefa inclui as subtarefas, então o ETag cobre a árvore inteira.
+public final class TodoEtags {
+
+    private TodoEtags() {
+    }
+
+    public static String de(TodoResponseDTO todo) {
+        return de(List.of(todo));
+    }
+
+    public static String de(List<TodoResponseDTO> todos) {
+        StringBuilder versoes = new StringBuilder();
+        todos.forEach(todo -> acumular(todo, versoes));
+        return hash(versoes.toString());
+    }
+
+    // Listagens paginadas: a mesma consulta sobre a mesma versão da tabela gera a mesma página. O ETag é fraco
+    // porque identifica a página e não os bytes (JSON, CBOR ou Smile); o Tomcat não comprime respostas com ETag forte.
+    public static String de(long versaoTabela, String consulta) {
+        return "W/" + hash(versaoTabela + "?" + consulta);
+    }
+
+    public static ZonedDateTime ultimaAlteracao(TodoResponseDTO todo) {
+        return ultimaAlteracao(List.of(todo));
+    }
+
+    public static ZonedDateTime ultimaAlteracao(List<TodoResponseDTO> todos) {
+        LocalDateTime maisRecente = LocalDateTime.MIN;
+        for (TodoResponseDTO todo : todos) {
+            maisRecente = maisRecente(todo, maisRecente);
+        }
+        return maisRecente.equals(LocalDateTime.MIN) ? null : maisRecente.atZone(ZoneId.systemDefault());
+    }
+
+    // Comparação forte do If-Match (RFC 9110): ETags fracos nunca correspondem
+    public static boolean corresponde(String ifMatch, String etag) {
+        for (String candidato : ifMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.equals("*") || valor.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void acumular(TodoResponseDTO todo, StringBuilder versoes) {
+        versoes.append(todo.getId()).append(':').append(todo.getVersao()).append('[');
+        todo.getSubtarefas().forEach(subtarefa -> acumular(subtarefa, versoes));
+        versoes.append(']');
+    }
+
+    private static LocalDateTime maisRecente(TodoResponseDTO todo, LocalDateTime atual) {
+        LocalDateTime resultado = atual;
+        if (todo.getDataCriacao() != null && todo.getDataCriacao().isAfter(resultado)) {
+            resultado = todo.getDataCriacao();
+        }
+        if (todo.getDataAtualizacao() != null && todo.getDataAtualizacao().isAfter(resultado)) {
+            resultado = todo.getDataAtualizacao();
+        }
+        for (TodoResponseDTO subtarefa : todo.getSubtarefas()) {
+            resultado = maisRecente(subtarefa, resultado);
+        }
+        return resultado;
+    }
+
+    private static String hash(String valor) {
+        return "\"" + DigestUtils.md5DigestAsHex(valor.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,331 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+
+import br.com.todo.desafio_todolist.dto.TipoEventoTodo;
+import br.com.todo.desafio_todolist.dto.TodoEventoDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+
+// Distribui as alterações confirmadas para os assinantes de GET /todos/eventos.
+// Cada assinante tem um buffer limitado: eventos da mesma tarefa são agrupados (fica o mais recente)
+// e, quando o buffer enche, os mais antigos são descartados e o cliente recebe "sincronizar".
+// O envio roda em um pool próprio para que clientes lentos não segurem as threads das requisições.
+// Um envio que passa de todo.eventos.timeout-envio encerra a assinatura e o pool ganha uma thread no lugar
+// da que ficou presa na escrita, até o Tomcat desistir dela; os demais assinantes seguem recebendo.
+@Component
+@Profile("!reactive")
+public class TodoEventos {
+
+    static final String SINCRONIZAR = "sincronizar";
+
+    private static final int LIVRE = 0;
+    private static final int ESCREVENDO = 1;
+    private static final int PRESA = 2;
+
+    private final Set<Assinatura> assinaturas = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequencia = new AtomicLong();
+    private final ThreadPoolExecutor envio;
+    private final int threads;
+    private final int capacidade;
+    private final long timeoutEnvio;
+    private final Counter descartados;
+    private final Counter lentos;
+    // Threads presas em envios vencidos, repostas no pool; protegido por travaPool
+    private final ReentrantLock travaPool = new ReentrantLock();
+    private int presas;
+
+    public TodoEventos(@Value("${todo.eventos.buffer:256}") int capacidade,
+                       @Value("${todo.eventos.threads:4}") int threads,
+                       @Value("${todo.eventos.timeout-envio:PT10S}") Duration timeoutEnvio,
+                       MeterRegistry meterRegistry) {
+        this.threads = threads;
+        this.capacidade = capacidade;
+        this.timeoutEnvio = timeoutEnvio.toNanos();
+        AtomicInteger contador = new AtomicInteger();
+        this.envio = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), tarefa -> {
+            Thread thread = new Thread(tarefa, "todo-eventos-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.descartados = Counter.builder("todo.eventos.descartados").register(meterRegistry);
+        this.lentos = Counter.builder("todo.eventos.lentos").register(meterRegistry);
+        Gauge.builder("todo.eventos.assinantes", assinaturas, Set::size).register(meterRegistry);
+    }
+
+    public SseEmitter assinar(Long tarefaPaiId, Integer prioridade, Boolean realizado) {
+        SseEmitter emitter = new SseEmitter();
+        Assinatura assinatura = new Assinatura(emitter, tarefaPaiId, prioridade, realizado);
+        assinaturas.add(assinatura);
+        emitter.onCompletion(() -> assinaturas.remove(assinatura));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> assinaturas.remove(assinatura));
+        // Comentário inicial para enviar os cabeçalhos sem esperar o primeiro evento
+        assinatura.pingar();
+        return emitter;
+    }
+
+    public void publicar(TipoEventoTodo tipo, Todo todo) {
+        publicarLote(tipo, List.of(todo));
+    }
+
+    // antes: estado lido antes da alteração, para avisar quem deixou de ver a tarefa no seu filtro
+    public void publicar(TipoEventoTodo tipo, TodoSummaryDTO antes, Todo todo) {
+        publicarLote(tipo, Map.of(antes.getId(), antes), List.of(todo));
+    }
+
+    public void publicarLote(TipoEventoTodo tipo, Collection<Todo> todos) {
+        publicarLote(tipo, Map.of(), todos);
+    }
+
+    public void publicarLote(TipoEventoTodo tipo, Map<Long, TodoSummaryDTO> antes, Collection<Todo> todos) {
+        if (todos.isEmpty()) {
+            return;
+        }
+        // O estado é capturado agora; a entrega só acontece se a transação for confirmada
+        List<TodoSummaryDTO> resumos = todos.stream().map(TodoSummaryDTO::of).toList();
+        Map<Long, TodoSummaryDTO> anteriores = Map.copyOf(antes);
+        AposCommit.executar(() -> {
+            LocalDateTime agora = LocalDateTime.now();
+            for (TodoSummaryDTO resumo : resumos) {
+                TodoEventoDTO evento = new TodoEventoDTO(sequencia.incrementAndGet(), tipo, resumo, agora);
+                TodoSummaryDTO anterior = anteriores.get(resumo.getId());
+                for (Assinatura assinatura : assinaturas) {
+                    if (assinatura.aceita(resumo)) {
+                        assinatura.oferecer(evento);
+                    } else if (anterior != null && assinatura.aceita(anterior)) {
+                        assinatura.oferecer(evento.saida());
+                    }
+                }
+            }
+        });
+    }
+
+    // Mantém a conexão ativa em proxies e detecta clientes que já desconectaram
+    @Scheduled(fixedDelayString = "${todo.eventos.heartbeat:PT30S}")
+    public void pingar() {
+        assinaturas.forEach(Assinatura::pingar);
+    }
+
+    // Assinaturas com um envio parado há mais que o timeout: o cliente deixa de receber eventos e a thread
+    // presa é reposta no pool enquanto a escrita não termina
+    @Scheduled(fixedDelayString = "${todo.eventos.timeout-envio:PT10S}")
+    public void verificarEnvios() {
+        long agora = System.nanoTime();
+        for (Assinatura assinatura : assinaturas) {
+            if (assinatura.enviandoHaMaisQue(agora, timeoutEnvio)) {
+                assinaturas.remove(assinatura);
+                lentos.increment();
+                redimensionar(1);
+            }
+        }
+    }
+
+    private void redimensionar(int variacao) {
+        travaPool.lock();
+        try {
+            presas += variacao;
+            int tamanho = threads + presas;
+            // O máximo não pode ficar abaixo do núcleo em nenhum momento
+            if (variacao > 0) {
+                envio.setMaximumPoolSize(tamanho);
+                envio.setCorePoolSize(tamanho);
+            } else {
+                envio.setCorePoolSize(tamanho);
+                envio.setMaximumPoolSize(tamanho);
+            }
+        } finally {
+            travaPool.unlock();
+        }
+    }
+
+    // Fecha as conexões antes do desligamento gracioso do servidor, que esperaria por elas
+    @EventListener(ContextClosedEvent.class)
+    public void desconectar() {
+        assinaturas.forEach(assinatura -> assinatura.emitter.complete());
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        envio.shutdownNow();
+    }
+
+    private final class Assinatura {
+        private final SseEmitter emitter;
+        private final Long tarefaPaiId;
+        private final Integer prioridade;
+        private final Boolean realizado;
+
+        // Protegidos pela trava
+        private final ReentrantLock trava = new ReentrantLock();
+        private final LinkedHashMap<Long, TodoEventoDTO> pendentes = new LinkedHashMap<>();
+        private boolean descartou;
+        private boolean ping;
+        private boolean enviando;
+
+        // Escrita em andamento: LIVRE, ESCREVENDO desde escrevendoDesde (System.nanoTime) ou PRESA
+        private final AtomicInteger escrita = new AtomicInteger(LIVRE);
+        private volatile long escrevendoDesde;
+
+        Assinatura(SseEmitter emitter, Long tarefaPaiId, Integer prioridade, Boolean realizado) {
+            this.emitter = emitter;
+            this.tarefaPaiId = tarefaPaiId;
+            this.prioridade = prioridade;
+            this.realizado = realizado;
+        }
+
+        boolean aceita(TodoSummaryDTO todo) {
+            return (tarefaPaiId == null || tarefaPaiId.equals(todo.getTarefaPaiId()))
+                    && (prioridade == null || prioridade.equals(todo.getPrioridade()))
+                    && (realizado == null || realizado.equals(todo.getRealizado()));
+        }
+
+        // Marca a escrita como presa uma única vez
+        boolean enviandoHaMaisQue(long agora, long limite) {
+            return escrita.get() == ESCREVENDO && agora - escrevendoDesde > limite
+                    && escrita.compareAndSet(ESCREVENDO, PRESA);
+        }
+
+        void oferecer(TodoEventoDTO evento) {
+            trava.lock();
+            try {
+                Long id = evento.getTodo().getId();
+                // Reinsere no fim para manter a ordem de chegada do evento mais recente
+                pendentes.remove(id);
+                if (pendentes.size() >= capacidade) {
+                    Iterator<Long> maisAntigo = pendentes.keySet().iterator();
+                    maisAntigo.next();
+                    maisAntigo.remove();
+                    descartou = true;
+                    descartados.increment();
+                }
+                pendentes.put(id, evento);
+                if (!iniciarEnvio()) {
+                    return;
+                }
+            } finally {
+                trava.unlock();
+            }
+            agendarEnvio();
+        }
+
+        void pingar() {
+            trava.lock();
+            try {
+                ping = true;
+                if (!iniciarEnvio()) {
+                    return;
+                }
+            } finally {
+                trava.unlock();
+            }
+            agendarEnvio();
+        }
+
+        private boolean iniciarEnvio() {
+            if (enviando) {
+                return false;
+            }
+            enviando = true;
+            return true;
+        }
+
+        private void agendarEnvio() {
+            try {
+                envio.execute(this::enviar);
+            } catch (RuntimeException e) {
+                // Pool encerrado no desligamento da aplicação
+                assinaturas.remove(this);
+            }
+        }
+
+        private void enviar() {
+            while (true) {
+                List<TodoEventoDTO> lote;
+                boolean sincronizar;
+                boolean comentario;
+                trava.lock();
+                try {
+                    if (pendentes.isEmpty() && !descartou && !ping) {
+                        enviando = false;
+                        return;
+                    }
+                    lote = new ArrayList<>(pendentes.values());
+                    pendentes.clear();
+                    sincronizar = descartou;
+                    comentario = ping && lote.isEmpty() && !sincronizar;
+                    descartou = false;
+                    ping = false;
+                } finally {
+                    trava.unlock();
+                }
+
+                escrevendoDesde = System.nanoTime();
+                escrita.set(ESCREVENDO);
+                try {
+                    if (sincronizar) {
+                        emitter.send(SseEmitter.event().name(SINCRONIZAR).data(String.valueOf(sequencia.get())));
+                    }
+                    for (TodoEventoDTO evento : lote) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(evento.getSequencia()))
+                                .name(evento.getTipo().getNome())
+                                .data(evento));
+                    }
+                    if (comentario) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    }
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado: a assinatura é descartada com o que estava pendente
+                    assinaturas.remove(this);
+                    liberar();
+                    emitter.completeWithError(e);
+                    return;
+                }
+                if (liberar()) {
+                    // A escrita terminou depois do timeout: a assinatura já foi encerrada
+                    emitter.complete();
+                    return;
+                }
+            }
+        }
+
+        // Fim da escrita; devolve ao pool o tamanho normal se ela tinha sido dada como presa
+        private boolean liberar() {
+            if (escrita.getAndSet(LIVRE) == PRESA) {
+                redimensionar(-1);
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import br.com.todo.desafio_todolist.dto.FormatoExportacao;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+// Exporta a tabela inteira linha a linha, lendo do cursor do banco e escrevendo direto na resposta.
+// As linhas são projeções (não entidades), então o contexto de persistência não cresce durante a leitura.
+@Service
+@Timed(TodoService.METRICA)
+@Transactional(readOnly = true)
+@Profile("!reactive")
+public class TodoExportService {
+
+    private static final String CABECALHO_CSV =
+            "id,nome,descricao,realizado,prioridade,dataVencimento,dataCriacao,dataAtualizacao,tarefaPaiId";
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    public TodoExportService(TodoRepository todoRepository, ObjectMapper objectMapper) {
+        this.todoRepository = todoRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    public void exportar(FormatoExportacao formato, OutputStream saida) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        if (formato == FormatoExportacao.CSV) {
+            writer.write(CABECALHO_CSV);
+            writer.write('\n');
+        }
+
+        try (Stream<TodoSummaryDTO> todos = todoRepository.streamResumos()) {
+            todos.forEach(todo -> escrever(writer, formato, todo));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void escrever(Writer writer, FormatoExportacao formato, TodoSummaryDTO todo) {
+        try {
+            writer.write(formato == FormatoExportacao.CSV ? linhaCsv(todo) : linhaNdjson(todo));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String linhaNdjson(TodoSummaryDTO todo) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(todo);
+    }
+
+    private String linhaCsv(TodoSummaryDTO todo) {
+        return String.join(",",
+                valorCsv(todo.getId()),
+                valorCsv(todo.getNome()),
+                valorCsv(todo.getDescricao()),
+                valorCsv(todo.getRealizado()),
+                valorCsv(todo.getPrioridade()),
+                valorCsv(todo.getDataVencimento()),
+                valorCsv(todo.getDataCriacao()),
+                valorCsv(todo.getDataAtualizacao()),
+                valorCsv(todo.getTarefaPaiId()));
+    }
+
+    private String valorCsv(Object valor) {
+        String texto = Objects.toString(valor, "");
+        if (texto.contains(",") || texto.contains("\"") || texto.contains("\n") || texto.contains("\r")) {
+            return "\"" + texto.replace("\"", "\"\"") + "\"";
+        }
+        return texto;
+    }
+}
@@ -0,0 +1,321 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.annotation.Timed;
+
+import br.com.todo.desafio_todolist.dto.LoteItemResultadoDTO;
+import br.com.todo.desafio_todolist.dto.LoteResultadoDTO;
+import br.com.todo.desafio_todolist.dto.TipoEventoTodo;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.dto.TodoStatusLoteDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+// Operações em lote: cada lote roda em uma única transação e as regras de negócio
+// são aplicadas item a item, na ordem recebida. Itens rejeitados não impedem os demais.
+@Service
+@Timed(TodoService.METRICA)
+@Transactional
+@Profile("!reactive")
+public class TodoLoteService {
+
+    static final int TAMANHO_MAXIMO_LOTE = 500;
+
+    private final TodoRepository todoRepository;
+    private final TodoResponseMapper todoResponseMapper;
+    private final TodoCache todoCache;
+    private final IndiceVencimentos indiceVencimentos;
+    private final TodoEventos todoEventos;
+    private final IndiceBusca indiceBusca;
+    private final InvalidacaoCacheL2 invalidacaoCacheL2;
+    private final VersaoTodos versaoTodos;
+    private final Validator validator;
+
+    public TodoLoteService(TodoRepository todoRepository, TodoResponseMapper todoResponseMapper, TodoCache todoCache,
+                           IndiceVencimentos indiceVencimentos, TodoEventos todoEventos, IndiceBusca indiceBusca,
+                           InvalidacaoCacheL2 invalidacaoCacheL2, VersaoTodos versaoTodos, Validator validator) {
+        this.todoRepository = todoRepository;
+        this.todoResponseMapper = todoResponseMapper;
+        this.todoCache = todoCache;
+        this.indiceVencimentos = indiceVencimentos;
+        this.todoEventos = todoEventos;
+        this.indiceBusca = indiceBusca;
+        this.invalidacaoCacheL2 = invalidacaoCacheL2;
+        this.versaoTodos = versaoTodos;
+        this.validator = validator;
+    }
+
+    public LoteResultadoDTO createBatch(List<Todo> todos) {
+        validarTamanho(todos);
+
+        Map<Long, Todo> tarefasPai = carregar(todos.stream()
+                .map(Todo::getTarefaPai)
+                .filter(Objects::nonNull)
+                .map(Todo::getId)
+                .collect(Collectors.toSet()));
+        Set<Long> paisNoLimite = paisNoLimite(tarefasPai.keySet());
+
+        LoteItemResultadoDTO[] resultados = new LoteItemResultadoDTO[todos.size()];
+        Map<Integer, Todo> validos = new LinkedHashMap<>();
+        LocalDateTime agora = LocalDateTime.now();
+
+        for (int i = 0; i < todos.size(); i++) {
+            Todo todo = todos.get(i);
+            String erro = validar(todo);
+            if (erro != null) {
+                resultados[i] = LoteItemResultadoDTO.erro(i, null, erro);
+                continue;
+            }
+
+            if (todo.getTarefaPai() != null) {
+                Long tarefaPaiId = todo.getTarefaPai().getId();
+                Todo tarefaPai = tarefaPaiId != null ? tarefasPai.get(tarefaPaiId) : null;
+                if (tarefaPai == null) {
+                    resultados[i] = LoteItemResultadoDTO.erro(i, null, TodoService.TODO_NAO_ENCONTRADO + tarefaPaiId);
+                    continue;
+                }
+                if (paisNoLimite.contains(tarefaPaiId)) {
+                    resultados[i] = LoteItemResultadoDTO.erro(i, null,
+                            String.format(TodoService.PROFUNDIDADE_EXCEDIDA, TodoArvoreService.PROFUNDIDADE_MAXIMA));
+                    continue;
+                }
+                todo.setTarefaPai(tarefaPai);
+            }
+
+            todo.setDataCriacao(agora);
+            validos.put(i, todo);
+        }
+
+        // Os ids vêm do bloco reservado na sequência, então os INSERTs saem agrupados em lotes JDBC
+        todoRepository.saveAll(validos.values());
+        todoRepository.flush();
+        todoCache.invalidarLote(validos.values());
+        indiceVencimentos.atualizarLote(validos.values());
+        todoEventos.publicarLote(TipoEventoTodo.CRIADO, validos.values());
+        indiceBusca.atualizarLote(validos.values());
+        if (!validos.isEmpty()) {
+            versaoTodos.incrementar();
+        }
+
+        Map<Long, TodoResponseDTO> respostas = responder(validos.values());
+        validos.forEach((i, todo) -> resultados[i] = LoteItemResultadoDTO.sucesso(i, todo.getId(), respostas.get(todo.getId())));
+        return new LoteResultadoDTO(List.of(resultados));
+    }
+
+    public LoteResultadoDTO updateStatusBatch(List<TodoStatusLoteDTO> itens) {
+        Set<Todo> alterados = new LinkedHashSet<>();
+        List<LoteItemResultadoDTO> resultados = alterarStatus(itens, alterados);
+
+        Map<Long, TodoResponseDTO> respostas = responder(alterados);
+        resultados.stream()
+                .filter(LoteItemResultadoDTO::isSucesso)
+                .forEach(resultado -> resultado.setTodo(respostas.get(resultado.getId())));
+        return new LoteResultadoDTO(resultados);
+    }
+
+    // Mesmas regras do lote, sem montar as tarefas da resposta (usado pela fila de status)
+    public LoteResultadoDTO aplicarStatusLote(List<TodoStatusLoteDTO> itens) {
+        return new LoteResultadoDTO(alterarStatus(itens, new LinkedHashSet<>()));
+    }
+
+    private List<LoteItemResultadoDTO> alterarStatus(List<TodoStatusLoteDTO> itens, Set<Todo> alterados) {
+        validarTamanho(itens);
+
+        Set<Long> ids = itens.stream()
+                .map(TodoStatusLoteDTO::getId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Todo> todos = carregar(ids);
+
+        // Subtarefas pendentes de cada tarefa do lote, atualizado conforme os itens anteriores são aplicados
+        Map<Long, Long> pendentes = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (Object[] linha : todoRepository.countSubtarefasPendentesPorTarefaPai(ids)) {
+                pendentes.put((Long) linha[0], (Long) linha[1]);
+            }
+        }
+
+        List<LoteItemResultadoDTO> resultados = new ArrayList<>();
+        LocalDateTime agora = LocalDateTime.now();
+        // Estado antes do primeiro item de cada tarefa, para os eventos de quem deixa um filtro
+        Map<Long, TodoSummaryDTO> antes = new HashMap<>();
+
+        for (int i = 0; i < itens.size(); i++) {
+            TodoStatusLoteDTO item = itens.get(i);
+            Todo todo = item.getId() != null ? todos.get(item.getId()) : null;
+
+            if (item.getId() == null) {
+                resultados.add(LoteItemResultadoDTO.erro(i, null, "Id é obrigatório"));
+            } else if (item.getRealizado() == null) {
+                resultados.add(LoteItemResultadoDTO.erro(i, item.getId(), "Status é obrigatório"));
+            } else if (todo == null) {
+                resultados.add(LoteItemResultadoDTO.erro(i, item.getId(), TodoService.TODO_NAO_ENCONTRADO + item.getId()));
+            } else if (item.getRealizado() && pendentes.getOrDefault(todo.getId(), 0L) > 0) {
+                resultados.add(LoteItemResultadoDTO.erro(i, item.getId(),
+                        String.format(TodoService.SUBTAREFAS_PENDENTES, pendentes.get(todo.getId()))));
+            } else {
+                if (todo.getTarefaPai() != null && !item.getRealizado().equals(todo.isRealizado())) {
+                    pendentes.merge(todo.getTarefaPai().getId(), item.getRealizado() ? -1L : 1L, Long::sum);
+                }
+                antes.computeIfAbsent(todo.getId(), id -> TodoSummaryDTO.of(todo));
+                todo.setRealizado(item.getRealizado());
+                todo.setDataAtualizacao(agora);
+                alterados.add(todo);
+                resultados.add(LoteItemResultadoDTO.sucesso(i, todo.getId(), null));
+            }
+        }
+
+        // Os UPDATEs são gerados pelo dirty checking e agrupados em lotes JDBC no flush
+        todoRepository.flush();
+        todoCache.invalidarLote(alterados);
+        indiceVencimentos.atualizarLote(alterados);
+        todoEventos.publicarLote(TipoEventoTodo.STATUS, antes, alterados);
+        if (!alterados.isEmpty()) {
+            versaoTodos.incrementar();
+        }
+        return resultados;
+    }
+
+    public LoteResultadoDTO deleteBatch(List<Long> ids) {
+        validarTamanho(ids);
+
+        Set<Long> idsInformados = ids.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        Map<Long, Todo> todos = carregar(idsInformados);
+
+        Map<Long, Set<Long>> subtarefas = new HashMap<>();
+        if (!idsInformados.isEmpty()) {
+            for (Object[] linha : todoRepository.findSubtarefaIdsByTarefaPaiIdIn(idsInformados)) {
+                subtarefas.computeIfAbsent((Long) linha[1], id -> new HashSet<>()).add((Long) linha[0]);
+            }
+        }
+
+        List<LoteItemResultadoDTO> resultados = new ArrayList<>();
+        Map<Long, Todo> excluidos = new LinkedHashMap<>();
+
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            Todo todo = id != null ? todos.get(id) : null;
+
+            if (id == null) {
+                resultados.add(LoteItemResultadoDTO.erro(i, null, "Id é obrigatório"));
+            } else if (todo == null || excluidos.containsKey(id)) {
+                resultados.add(LoteItemResultadoDTO.erro(i, id, TodoService.TODO_NAO_ENCONTRADO + id));
+            } else if (!excluidos.keySet().containsAll(subtarefas.getOrDefault(id, Set.of()))) {
+                // Subtarefas excluídas por itens anteriores do mesmo lote não impedem a exclusão
+                resultados.add(LoteItemResultadoDTO.erro(i, id, TodoService.EXCLUSAO_COM_SUBTAREFAS));
+            } else {
+                excluidos.put(id, todo);
+                resultados.add(LoteItemResultadoDTO.sucesso(i, id, null));
+            }
+        }
+
+        todoCache.invalidarLote(excluidos.values());
+        indiceVencimentos.removerLote(excluidos.keySet());
+        todoEventos.publicarLote(TipoEventoTodo.EXCLUIDO, excluidos.values());
+        indiceBusca.removerLote(excluidos.keySet());
+        invalidacaoCacheL2.removidas(excluidos.values());
+        tocarTarefasPai(excluidos);
+        excluirPorNivel(excluidos);
+        if (!excluidos.isEmpty()) {
+            versaoTodos.incrementar();
+        }
+        return new LoteResultadoDTO(resultados);
+    }
+
+    // Tarefas pai que ficam sem alguma subtarefa (e não foram excluídas no mesmo lote) têm a data de
+    // atualização avançada, para o Last-Modified da árvore mudar
+    private void tocarTarefasPai(Map<Long, Todo> excluidos) {
+        Set<Long> tarefasPai = excluidos.values().stream()
+                .map(Todo::getTarefaPai)
+                .filter(Objects::nonNull)
+                .map(Todo::getId)
+                .filter(id -> !excluidos.containsKey(id))
+                .collect(Collectors.toSet());
+        LocalDateTime agora = LocalDateTime.now();
+        carregar(tarefasPai).values().forEach(tarefaPai -> tarefaPai.setDataAtualizacao(agora));
+    }
+
+    // O MySQL verifica a FK linha a linha, então tarefa e subtarefa não podem sair no mesmo DELETE.
+    // Cada rodada exclui, em um único comando, as tarefas que não têm subtarefas restantes no lote.
+    private void excluirPorNivel(Map<Long, Todo> excluidos) {
+        Map<Long, Todo> restantes = new HashMap<>(excluidos);
+        while (!restantes.isEmpty()) {
+            Set<Long> comSubtarefas = restantes.values().stream()
+                    .map(Todo::getTarefaPai)
+                    .filter(Objects::nonNull)
+                    .map(Todo::getId)
+                    .collect(Collectors.toSet());
+            List<Long> rodada = restantes.keySet().stream()
+                    .filter(id -> !comSubtarefas.contains(id))
+                    .toList();
+            todoRepository.deleteAllByIdInBatch(rodada);
+            rodada.forEach(restantes::remove);
+        }
+    }
+
+    private Map<Long, Todo> carregar(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return todoRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+    }
+
+    // Tarefas que já estão no último nível da árvore e não podem receber subtarefas
+    private Set<Long> paisNoLimite(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        return todoRepository.findNiveis(ids, TodoArvoreService.PROFUNDIDADE_MAXIMA).stream()
+                .filter(linha -> ((Number) linha[1]).intValue() >= TodoArvoreService.PROFUNDIDADE_MAXIMA)
+                .map(linha -> ((Number) linha[0]).longValue())
+                .collect(Collectors.toSet());
+    }
+
+    private Map<Long, TodoResponseDTO> responder(Collection<Todo> todos) {
+        List<TodoSummaryDTO> resumos = todos.stream().map(TodoSummaryDTO::of).toList();
+        return todoResponseMapper.toResponse(resumos).stream()
+                .collect(Collectors.toMap(TodoResponseDTO::getId, Function.identity()));
+    }
+
+    private String validar(Todo todo) {
+        Set<ConstraintViolation<Todo>> violacoes = validator.validate(todo);
+        if (violacoes.isEmpty()) {
+            return null;
+        }
+        return violacoes.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private void validarTamanho(List<?> itens) {
+        if (itens == null || itens.isEmpty()) {
+            throw new BusinessException("O lote deve conter ao menos um item.");
+        }
+        if (itens.size() > TAMANHO_MAXIMO_LOTE) {
+            throw new BusinessException("O lote deve conter no máximo " + TAMANHO_MAXIMO_LOTE + " itens.");
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.TodoCreateDTO;
+import br.com.todo.desafio_todolist.dto.TodoCursor;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.dto.TodoUpdateDTO;
+import br.com.todo.desafio_todolist.entity.TodoRow;
+import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.exception.ResourceNotFoundException;
+import br.com.todo.desafio_todolist.repository.TodoReativoRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Regras do TodoService sobre R2DBC. As listagens devolvem as linhas à medida que chegam do banco,
+// respeitando a demanda do cliente, em vez de montar a árvore de subtarefas.
+@Service
+@Profile("reactive")
+public class TodoReativoService {
+
+    private final TodoReativoRepository todoRepository;
+    private final TransactionalOperator transacao;
+
+    public TodoReativoService(TodoReativoRepository todoRepository, ReactiveTransactionManager transactionManager) {
+        this.todoRepository = todoRepository;
+        this.transacao = TransactionalOperator.create(transactionManager);
+    }
+
+    public Mono<TodoSummaryDTO> create(TodoCreateDTO todoDTO) {
+        TodoRow todo = new TodoRow();
+        todo.setNome(todoDTO.getNome());
+        todo.setDescricao(todoDTO.getDescricao());
+        todo.setPrioridade(todoDTO.getPrioridade());
+        todo.setDataVencimento(todoDTO.getDataVencimento());
+        todo.setRealizado(false);
+        todo.setDataCriacao(LocalDateTime.now());
+        todo.setTarefaPaiId(todoDTO.getTarefaPaiId());
+
+        Mono<TodoRow> tarefaPai = todo.getTarefaPaiId() != null
+                ? findById(todo.getTarefaPaiId()).flatMap(this::validarProfundidade)
+                : Mono.empty();
+        return tarefaPai
+                .then(Mono.defer(() -> todoRepository.inserir(todo)))
+                .map(TodoSummaryDTO::of)
+                .as(transacao::transactional);
+    }
+
+    public Flux<TodoSummaryDTO> list(TodoFiltroDTO filtros, int page, int size, String sortBy, String sortDir) {
+        if (size < 1) {
+            return Flux.error(new BusinessException("O tamanho da página deve ser maior que zero."));
+        }
+        CampoOrdenacao campo = CampoOrdenacao.fromAtributo(sortBy);
+        Sort.Direction direcao = TodoCursor.direcao(sortDir);
+        return todoRepository.findComFiltros(filtros, campo, direcao, (long) page * size, size)
+                .map(TodoSummaryDTO::of);
+    }
+
+    public Flux<TodoSummaryDTO> listAll() {
+        return todoRepository.findAllTarefas().map(TodoSummaryDTO::of);
+    }
+
+    public Mono<TodoSummaryDTO> findResponseById(Long id) {
+        return findById(id).map(TodoSummaryDTO::of);
+    }
+
+    public Mono<TodoSummaryDTO> update(Long id, TodoUpdateDTO todoDTO) {
+        return findById(id)
+                .flatMap(todo -> {
+                    todo.setNome(todoDTO.getNome());
+                    todo.setDescricao(todoDTO.getDescricao());
+                    todo.setPrioridade(todoDTO.getPrioridade());
+                    todo.setDataVencimento(todoDTO.getDataVencimento());
+                    todo.setDataAtualizacao(LocalDateTime.now());
+                    return todoRepository.save(todo);
+                })
+                .map(TodoSummaryDTO::of)
+                .as(transacao::transactional);
+    }
+
+    public Mono<TodoSummaryDTO> updateStatus(Long id, Boolean realizado) {
+        return findById(id)
+                .flatMap(todo -> verificarConclusao(todo, realizado))
+                .flatMap(todo -> {
+                    todo.setRealizado(realizado);
+                    todo.setDataAtualizacao(LocalDateTime.now());
+                    return todoRepository.save(todo);
+                })
+                .map(TodoSummaryDTO::of)
+                .as(transacao::transactional);
+    }
+
+    public Mono<Void> delete(Long id) {
+        return findById(id)
+                .flatMap(todo -> todoRepository.existsByTarefaPaiId(id))
+                .flatMap(possuiSubtarefas -> possuiSubtarefas
+                        ? Mono.<Void>error(new BusinessException(TodoService.EXCLUSAO_COM_SUBTAREFAS))
+                        : todoRepository.deleteById(id))
+                .as(transacao::transactional);
+    }
+
+    public Mono<TodoSummaryDTO> adicionarSubtarefa(Long tarefaPaiId, TodoCreateDTO subtarefaDTO) {
+        subtarefaDTO.setTarefaPaiId(tarefaPaiId);
+        return create(subtarefaDTO);
+    }
+
+    public Flux<TodoSummaryDTO> listarSubtarefas(Long tarefaPaiId) {
+        return findById(tarefaPaiId)
+                .thenMany(todoRepository.findByTarefaPaiId(tarefaPaiId))
+                .map(TodoSummaryDTO::of);
+    }
+
+    public Flux<TodoSummaryDTO> findTarefasVencidas() {
+        return todoRepository.findTarefasVencidas(LocalDateTime.now()).map(TodoSummaryDTO::of);
+    }
+
+    public Flux<TodoSummaryDTO> findTarefasComVencimentoProximo(int dias) {
+        LocalDateTime agora = LocalDateTime.now();
+        return todoRepository.findTarefasComVencimentoProximo(agora, agora.plusDays(dias)).map(TodoSummaryDTO::of);
+    }
+
+    public Flux<TodoSummaryDTO> findByStatus(Boolean realizado) {
+        return todoRepository.findByRealizadoAndTarefaPaiIsNull(realizado).map(TodoSummaryDTO::of);
+    }
+
+    public Flux<TodoSummaryDTO> findByPrioridade(Integer prioridade) {
+        return todoRepository.findByPrioridadeAndTarefaPaiIsNull(prioridade).map(TodoSummaryDTO::of);
+    }
+
+    private Mono<TodoRow> findById(Long id) {
+        return todoRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new ResourceNotFoundException(TodoService.TODO_NAO_ENCONTRADO + id)));
+    }
+
+    private Mono<TodoRow> verificarConclusao(TodoRow todo, Boolean realizado) {
+        if (!realizado) {
+            return Mono.just(todo);
+        }
+        return todoRepository.countSubtarefasPendentes(todo.getId())
+                .flatMap(pendentes -> pendentes > 0
+                        ? Mono.error(new BusinessException(String.format(TodoService.SUBTAREFAS_PENDENTES, pendentes)))
+                        : Mono.just(todo));
+    }
+
+    private Mono<TodoRow> validarProfundidade(TodoRow tarefaPai) {
+        return todoRepository.findNivel(tarefaPai.getId(), TodoArvoreService.PROFUNDIDADE_MAXIMA)
+                .filter(nivel -> nivel < TodoArvoreService.PROFUNDIDADE_MAXIMA)
+                .switchIfEmpty(Mono.error(() -> new BusinessException(
+                        String.format(TodoService.PROFUNDIDADE_EXCEDIDA, TodoArvoreService.PROFUNDIDADE_MAXIMA))))
+                .thenReturn(tarefaPai);
+    }
+}
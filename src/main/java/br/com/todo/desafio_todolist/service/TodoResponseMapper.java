@@ -0,0 +1,118 @@
+package br.com.todo.desafio_todolist.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import br.com.todo.desafio_todolist.dto.CampoTodo;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import br.com.todo.desafio_todolist.repository.TodoSpecifications;
+
+// Monta TodoResponseDTO a partir de projeções, carregando as subtarefas por nível:
+// uma consulta IN por nível da árvore em vez de uma consulta por tarefa
+@Component
+@Profile("!reactive")
+public class TodoResponseMapper {
+
+    private static final int TAMANHO_LOTE_IN = 500;
+
+    private final TodoRepository todoRepository;
+
+    public TodoResponseMapper(TodoRepository todoRepository) {
+        this.todoRepository = todoRepository;
+    }
+
+    public TodoResponseDTO toResponse(Todo todo) {
+        return toResponse(TodoSummaryDTO.of(todo));
+    }
+
+    public TodoResponseDTO toResponse(TodoSummaryDTO resumo) {
+        return toResponse(List.of(resumo)).get(0);
+    }
+
+    public List<TodoResponseDTO> toResponse(List<TodoSummaryDTO> resumos) {
+        List<TodoResponseDTO> raizes = resumos.stream().map(this::converter).toList();
+        carregarSubtarefas(raizes, todoRepository::findByTarefaPaiIdIn, true);
+        return raizes;
+    }
+
+    // Listagens com fields=: as subtarefas usam a mesma projeção e só são carregadas quando fazem parte da
+    // resposta. Para subtarefasPendentes sem subtarefas basta o primeiro nível.
+    public List<TodoResponseDTO> toResponse(List<TodoSummaryDTO> resumos, Set<CampoTodo> campos) {
+        List<TodoResponseDTO> raizes = resumos.stream().map(this::converter).toList();
+        if (CampoTodo.carregaSubtarefas(campos)) {
+            Set<CampoTodo> colunas = CampoTodo.colunas(campos);
+            carregarSubtarefas(raizes,
+                    lote -> todoRepository.findCampos(TodoSpecifications.comTarefaPaiIds(lote), colunas, Sort.by("id")),
+                    campos.contains(CampoTodo.SUBTAREFAS));
+        }
+        return raizes;
+    }
+
+    // Para quando a lista já contém todas as tarefas (pais e subtarefas): monta a árvore sem novas consultas
+    public List<TodoResponseDTO> toResponseCompleto(List<TodoSummaryDTO> resumos) {
+        List<TodoResponseDTO> convertidos = resumos.stream().map(this::converter).toList();
+        Map<Long, TodoResponseDTO> porId = indexarPorId(convertidos);
+
+        for (TodoResponseDTO dto : convertidos) {
+            TodoResponseDTO pai = dto.getTarefaPaiId() != null ? porId.get(dto.getTarefaPaiId()) : null;
+            if (pai != null) {
+                pai.getSubtarefas().add(dto);
+            }
+        }
+
+        return convertidos;
+    }
+
+    private void carregarSubtarefas(List<TodoResponseDTO> raizes, Function<List<Long>, List<TodoSummaryDTO>> consulta,
+                                    boolean todosOsNiveis) {
+        Map<Long, TodoResponseDTO> nivelAtual = indexarPorId(raizes);
+        while (!nivelAtual.isEmpty()) {
+            List<TodoResponseDTO> filhos = carregarFilhos(new ArrayList<>(nivelAtual.keySet()), consulta);
+            for (TodoResponseDTO filho : filhos) {
+                nivelAtual.get(filho.getTarefaPaiId()).getSubtarefas().add(filho);
+            }
+            nivelAtual = todosOsNiveis ? indexarPorId(filhos) : Map.of();
+        }
+    }
+
+    private List<TodoResponseDTO> carregarFilhos(List<Long> paiIds, Function<List<Long>, List<TodoSummaryDTO>> consulta) {
+        List<TodoResponseDTO> filhos = new ArrayList<>();
+        for (int inicio = 0; inicio < paiIds.size(); inicio += TAMANHO_LOTE_IN) {
+            List<Long> lote = paiIds.subList(inicio, Math.min(inicio + TAMANHO_LOTE_IN, paiIds.size()));
+            consulta.apply(lote).stream().map(this::converter).forEach(filhos::add);
+        }
+        return filhos;
+    }
+
+    private Map<Long, TodoResponseDTO> indexarPorId(List<TodoResponseDTO> dtos) {
+        Map<Long, TodoResponseDTO> porId = new LinkedHashMap<>();
+        dtos.forEach(dto -> porId.put(dto.getId(), dto));
+        return porId;
+    }
+
+    private TodoResponseDTO converter(TodoSummaryDTO resumo) {
+        TodoResponseDTO dto = new TodoResponseDTO();
+        dto.setId(resumo.getId());
+        dto.setNome(resumo.getNome());
+        dto.setDescricao(resumo.getDescricao());
+        dto.setRealizado(resumo.getRealizado());
+        dto.setPrioridade(resumo.getPrioridade());
+        dto.setDataVencimento(resumo.getDataVencimento());
+        dto.setDataCriacao(resumo.getDataCriacao());
+        dto.setDataAtualizacao(resumo.getDataAtualizacao());
+        dto.setTarefaPaiId(resumo.getTarefaPaiId());
+        dto.setVersao(resumo.getVersao());
+        return dto;
+    }
+}
@@ -2,66 +2,208 @@ package br.com.todo.desafio_todolist.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import io.micrometer.core.annotation.Timed;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.CampoTodo;
+import br.com.todo.desafio_todolist.dto.CursorPageDTO;
+import br.com.todo.desafio_todolist.dto.TipoEventoTodo;
+import br.com.todo.desafio_todolist.dto.TodoCursor;
 import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
 import br.com.todo.desafio_todolist.entity.Todo;
 import br.com.todo.desafio_todolist.exception.BusinessException;
+import br.com.todo.desafio_todolist.exception.PreconditionFailedException;
 import br.com.todo.desafio_todolist.exception.ResourceNotFoundException;
 import br.com.todo.desafio_todolist.repository.TodoRepository;
+import br.com.todo.desafio_todolist.repository.TodoSpecifications;
 
 @Service
+@Timed(TodoService.METRICA)
 @Transactional
+@Profile("!reactive")
 public class TodoService {
 
+    // Timer com tags class e method para cada método público dos serviços
+    static final String METRICA = "todo.service";
+
+    static final String TODO_NAO_ENCONTRADO = "Todo não encontrado com id: ";
+    static final String SUBTAREFAS_PENDENTES = "Não é possível concluir a tarefa. Existem %d subtarefa(s) pendente(s).";
+    static final String EXCLUSAO_COM_SUBTAREFAS = "Não é possível excluir uma tarefa que possui subtarefas.";
+    static final String PROFUNDIDADE_EXCEDIDA = "Uma tarefa pode ter no máximo %d níveis de subtarefas.";
+    static final String TAREFA_ALTERADA = "A tarefa foi alterada desde a última leitura. Busque a versão atual e tente novamente.";
+
+    private static final Sort ORDENACAO_COMPLETA = Sort.by("prioridade").descending().and(Sort.by("nome").ascending());
+
     private final TodoRepository todoRepository;
+    private final TodoResponseMapper todoResponseMapper;
+    private final TodoCache todoCache;
+    private final IndiceVencimentos indiceVencimentos;
+    private final TodoEventos todoEventos;
+    private final IndiceBusca indiceBusca;
+    private final VersaoTodos versaoTodos;
+    private final TransactionTemplate leitura;
 
-    public TodoService(TodoRepository todoRepository) {
+    public TodoService(TodoRepository todoRepository, TodoResponseMapper todoResponseMapper, TodoCache todoCache,
+                       IndiceVencimentos indiceVencimentos, TodoEventos todoEventos, IndiceBusca indiceBusca,
+                       VersaoTodos versaoTodos, PlatformTransactionManager transactionManager) {
         this.todoRepository = todoRepository;
+        this.todoResponseMapper = todoResponseMapper;
+        this.todoCache = todoCache;
+        this.indiceVencimentos = indiceVencimentos;
+        this.todoEventos = todoEventos;
+        this.indiceBusca = indiceBusca;
+        this.versaoTodos = versaoTodos;
+        this.leitura = new TransactionTemplate(transactionManager);
+        this.leitura.setReadOnly(true);
     }
 
-    public Todo create(Todo todo) {
+    public TodoResponseDTO create(Todo todo) {
         if (todo.getTarefaPai() != null && todo.getTarefaPai().getId() != null) {
             Todo tarefaPai = findById(todo.getTarefaPai().getId());
+            validarProfundidade(tarefaPai.getId());
             todo.setTarefaPai(tarefaPai);
         }
         
         todo.setDataCriacao(LocalDateTime.now());
-        return todoRepository.save(todo);
+        Todo todoSalvo = todoRepository.save(todo);
+        todoCache.invalidar(todoSalvo);
+        indiceVencimentos.atualizar(todoSalvo);
+        todoEventos.publicar(TipoEventoTodo.CRIADO, todoSalvo);
+        indiceBusca.atualizar(todoSalvo);
+        versaoTodos.incrementar();
+        return todoResponseMapper.toResponse(todoSalvo);
     }
 
-    public Page<Todo> list(TodoFiltroDTO filtros, int page, int size, String sortBy, String sortDir) {
-        Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
+    @Transactional(readOnly = true)
+    public Page<TodoResponseDTO> list(TodoFiltroDTO filtros, int page, int size, String sortBy, String sortDir) {
+        Sort sort = Sort.by(TodoCursor.direcao(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
         
-        return todoRepository.findWithFilters(
-            filtros.getRealizado(),
-            filtros.getPrioridade(),
-            filtros.getDataInicio(),
-            filtros.getDataFim(),
-            pageable
-        );
+        Page<TodoSummaryDTO> todos = todoRepository.findResumos(TodoSpecifications.comFiltros(filtros), pageable);
+        return new PageImpl<>(todoResponseMapper.toResponse(todos.getContent()), pageable, todos.getTotalElements());
+    }
+
+    // Com fields=, a consulta projeta só as colunas necessárias (CampoTodo.colunas); sem ele, a resposta é completa
+    @Transactional(readOnly = true)
+    public Page<TodoResponseDTO> list(TodoFiltroDTO filtros, int page, int size, String sortBy, String sortDir,
+                                      Set<CampoTodo> campos) {
+        if (campos == null) {
+            return list(filtros, page, size, sortBy, sortDir);
+        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by(TodoCursor.direcao(sortDir), sortBy));
+
+        Page<TodoSummaryDTO> todos = todoRepository.findCampos(TodoSpecifications.comFiltros(filtros),
+                CampoTodo.colunas(campos), pageable);
+        return new PageImpl<>(todoResponseMapper.toResponse(todos.getContent(), campos), pageable, todos.getTotalElements());
+    }
+
+    // Os ids vêm do índice já ordenados por relevância; o banco aplica os filtros sobre eles em uma consulta.
+    // Inclui subtarefas, e o total considera no máximo os todo.busca.limite melhores resultados.
+    @Transactional(readOnly = true)
+    public Page<TodoResponseDTO> buscar(String texto, TodoFiltroDTO filtros, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        List<Long> ids = indiceBusca.buscar(texto);
+        if (ids.isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        Map<Long, TodoSummaryDTO> encontrados = todoRepository.findSlice(
+                        TodoSpecifications.comFiltros(filtros, TodoSpecifications.comIds(ids)),
+                        CampoOrdenacao.ID, Sort.Direction.ASC, null, ids.size())
+                .stream()
+                .collect(Collectors.toMap(TodoSummaryDTO::getId, Function.identity()));
+
+        List<TodoSummaryDTO> ordenados = ids.stream().map(encontrados::get).filter(Objects::nonNull).toList();
+        int inicio = (int) Math.min(pageable.getOffset(), ordenados.size());
+        int fim = Math.min(inicio + size, ordenados.size());
+        return new PageImpl<>(todoResponseMapper.toResponse(ordenados.subList(inicio, fim)), pageable, ordenados.size());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDTO<TodoResponseDTO> listCursor(TodoFiltroDTO filtros, String cursor, int size, String sortBy, String sortDir) {
+        if (size < 1) {
+            throw new BusinessException("O tamanho da página deve ser maior que zero.");
+        }
+
+        CampoOrdenacao campo = CampoOrdenacao.fromAtributo(sortBy);
+        Sort.Direction direcao = TodoCursor.direcao(sortDir);
+        TodoCursor posicao = cursor != null ? TodoCursor.decode(cursor) : null;
+
+        if (posicao != null && (posicao.getCampo() != campo || posicao.getDirecao() != direcao)) {
+            throw new BusinessException("O cursor informado não corresponde à ordenação solicitada.");
+        }
+
+        // Busca um item a mais para saber se existe próxima página sem executar COUNT
+        List<TodoSummaryDTO> todos = todoRepository.findSlice(TodoSpecifications.comFiltros(filtros), campo, direcao, posicao, size + 1);
+        boolean hasNext = todos.size() > size;
+        if (hasNext) {
+            todos = todos.subList(0, size);
+        }
+
+        String nextCursor = hasNext ? TodoCursor.of(todos.get(todos.size() - 1), campo, direcao).encode() : null;
+        return new CursorPageDTO<>(todoResponseMapper.toResponse(todos), size, hasNext, nextCursor);
     }
 
-    public List<Todo> listAll() {
-        Sort sort = Sort.by("prioridade").descending()
-                .and(Sort.by("nome").ascending());
-        return todoRepository.findAll(sort);
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> listAll() {
+        return todoResponseMapper.toResponseCompleto(todoRepository.findAllResumos(ORDENACAO_COMPLETA));
+    }
+
+    // tarefaPaiId só é projetado quando as subtarefas fazem parte da resposta; sem ele a árvore não é montada
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> listAll(Set<CampoTodo> campos) {
+        if (campos == null) {
+            return listAll();
+        }
+        return todoResponseMapper.toResponseCompleto(
+                todoRepository.findCampos(Specification.unrestricted(), CampoTodo.colunas(campos), ORDENACAO_COMPLETA));
     }
 
     public Todo findById(Long id) {
         return todoRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Todo não encontrado com id: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException(TODO_NAO_ENCONTRADO + id));
     }
 
-    public Todo update(Long id, Todo todoAtualizado) {
+    // Sem transação no acerto do cache: a conexão só é usada quando é preciso carregar do banco
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TodoResponseDTO findResponseById(Long id) {
+        return todoCache.getTodo(id, () -> leitura.execute(status -> {
+            TodoSummaryDTO resumo = todoRepository.findResumoById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException(TODO_NAO_ENCONTRADO + id));
+            return todoResponseMapper.toResponse(resumo);
+        }));
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long versaoTabela() {
+        return versaoTodos.atual();
+    }
+
+    public TodoResponseDTO update(Long id, Todo todoAtualizado, String ifMatch) {
         Todo todoExistente = findById(id);
+        verificarIfMatch(todoExistente, ifMatch);
+        TodoSummaryDTO antes = TodoSummaryDTO.of(todoExistente);
         
         todoExistente.setNome(todoAtualizado.getNome());
         todoExistente.setDescricao(todoAtualizado.getDescricao());
@@ -69,61 +211,139 @@ public class TodoService {
         todoExistente.setDataVencimento(todoAtualizado.getDataVencimento());
         todoExistente.setDataAtualizacao(LocalDateTime.now());
         
-        return todoRepository.save(todoExistente);
+        // Flush para a resposta (e o ETag) já trazer a versão incrementada
+        Todo todoSalvo = todoRepository.saveAndFlush(todoExistente);
+        todoCache.invalidar(todoSalvo);
+        indiceVencimentos.atualizar(todoSalvo);
+        todoEventos.publicar(TipoEventoTodo.ATUALIZADO, antes, todoSalvo);
+        indiceBusca.atualizar(todoSalvo);
+        versaoTodos.incrementar();
+        return todoResponseMapper.toResponse(todoSalvo);
     }
 
-    public Todo updateStatus(Long id, Boolean realizado) {
+    public TodoResponseDTO updateStatus(Long id, Boolean realizado, String ifMatch) {
         Todo todo = findById(id);
+        verificarIfMatch(todo, ifMatch);
         
-        if (realizado && !todo.podeSerConcluida()) {
-            throw new BusinessException(
-                String.format("Não é possível concluir a tarefa. Existem %d subtarefa(s) pendente(s).", 
-                              todo.getSubtarefasPendentes())
-            );
+        // Contagem feita no banco para não carregar a coleção de subtarefas
+        if (realizado) {
+            long pendentes = todoRepository.countSubtarefasPendentes(id);
+            if (pendentes > 0) {
+                throw new BusinessException(String.format(SUBTAREFAS_PENDENTES, pendentes));
+            }
         }
         
+        TodoSummaryDTO antes = TodoSummaryDTO.of(todo);
         todo.setRealizado(realizado);
         todo.setDataAtualizacao(LocalDateTime.now());
         
-        return todoRepository.save(todo);
+        Todo todoSalvo = todoRepository.saveAndFlush(todo);
+        todoCache.invalidar(todoSalvo);
+        indiceVencimentos.atualizar(todoSalvo);
+        todoEventos.publicar(TipoEventoTodo.STATUS, antes, todoSalvo);
+        versaoTodos.incrementar();
+        return todoResponseMapper.toResponse(todoSalvo);
     }
 
     public void delete(Long id) {
         Todo todo = findById(id);
         
-        if (!todo.getSubtarefas().isEmpty()) {
-            throw new BusinessException("Não é possível excluir uma tarefa que possui subtarefas.");
+        if (todoRepository.existsByTarefaPaiId(id)) {
+            throw new BusinessException(EXCLUSAO_COM_SUBTAREFAS);
+        }
+        // A tarefa pai perde uma subtarefa: a data de atualização avança para o Last-Modified da árvore mudar
+        if (todo.getTarefaPai() != null) {
+            todo.getTarefaPai().setDataAtualizacao(LocalDateTime.now());
         }
         
+        todoCache.invalidar(todo);
+        indiceVencimentos.remover(id);
+        todoEventos.publicar(TipoEventoTodo.EXCLUIDO, todo);
+        indiceBusca.remover(id);
         todoRepository.deleteById(id);
+        versaoTodos.incrementar();
     }
 
-    public Todo adicionarSubtarefa(Long tarefaPaiId, Todo subtarefa) {
+    public TodoResponseDTO adicionarSubtarefa(Long tarefaPaiId, Todo subtarefa) {
         Todo tarefaPai = findById(tarefaPaiId);
+        validarProfundidade(tarefaPaiId);
         subtarefa.setTarefaPai(tarefaPai);
-        return todoRepository.save(subtarefa);
+        Todo subtarefaSalva = todoRepository.save(subtarefa);
+        todoCache.invalidar(subtarefaSalva);
+        todoEventos.publicar(TipoEventoTodo.CRIADO, subtarefaSalva);
+        indiceBusca.atualizar(subtarefaSalva);
+        versaoTodos.incrementar();
+        return todoResponseMapper.toResponse(subtarefaSalva);
     }
 
-    public List<Todo> listarSubtarefas(Long tarefaPaiId) {
-        findById(tarefaPaiId); 
-        return todoRepository.findByTarefaPaiId(tarefaPaiId);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<TodoResponseDTO> listarSubtarefas(Long tarefaPaiId) {
+        return todoCache.getSubtarefas(tarefaPaiId, () -> leitura.execute(status -> {
+            if (!todoRepository.existsById(tarefaPaiId)) {
+                throw new ResourceNotFoundException(TODO_NAO_ENCONTRADO + tarefaPaiId);
+            }
+            return todoResponseMapper.toResponse(todoRepository.findByTarefaPaiId(tarefaPaiId));
+        }));
+    }
+
+    // O If-Match é comparado com o ETag da representação atual (tarefa e subtarefas). O @Version confere
+    // a versão lida aqui no UPDATE, então nada escrito entre a comparação e o commit é sobrescrito.
+    private void verificarIfMatch(Todo todo, String ifMatch) {
+        if (ifMatch != null && !TodoEtags.corresponde(ifMatch, TodoEtags.de(todoResponseMapper.toResponse(todo)))) {
+            throw new PreconditionFailedException(TAREFA_ALTERADA);
+        }
     }
 
-    public List<Todo> findTarefasVencidas() {
-        return todoRepository.findTarefasVencidas(LocalDateTime.now());
+    // As tarefas vêm do índice em memória; o banco só é consultado para montar as subtarefas
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findTarefasVencidas() {
+        return todoResponseMapper.toResponse(indiceVencimentos.vencidas(LocalDateTime.now()));
     }
 
-    public List<Todo> findTarefasComVencimentoProximo(int dias) {
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findTarefasComVencimentoProximo(int dias) {
         LocalDateTime agora = LocalDateTime.now();
         LocalDateTime limite = agora.plusDays(dias);
-        return todoRepository.findTarefasComVencimentoProximo(agora, limite);
+        return todoResponseMapper.toResponse(indiceVencimentos.aVencer(agora, limite));
     }
 
-    public List<Todo> findByStatus(Boolean realizado) {
-        return todoRepository.findByRealizadoAndTarefaPaiIsNull(realizado);
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findByStatus(Boolean realizado) {
+        return todoResponseMapper.toResponse(todoRepository.findByRealizadoAndTarefaPaiIsNull(realizado));
     }
 
-    public List<Todo> findByPrioridade(Integer prioridade) {
-        return todoRepository.findByPrioridadeAndTarefaPaiIsNull(prioridade);
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findByStatus(Boolean realizado, Set<CampoTodo> campos) {
+        if (campos == null) {
+            return findByStatus(realizado);
+        }
+        return listarCampos(TodoSpecifications.semTarefaPai().and(TodoSpecifications.realizado(realizado)), campos);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findByPrioridade(Integer prioridade) {
+        return todoResponseMapper.toResponse(todoRepository.findByPrioridadeAndTarefaPaiIsNull(prioridade));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoResponseDTO> findByPrioridade(Integer prioridade, Set<CampoTodo> campos) {
+        if (campos == null) {
+            return findByPrioridade(prioridade);
+        }
+        return listarCampos(TodoSpecifications.semTarefaPai().and(TodoSpecifications.prioridade(prioridade)), campos);
+    }
+
+    private List<TodoResponseDTO> listarCampos(Specification<Todo> spec, Set<CampoTodo> campos) {
+        List<TodoSummaryDTO> resumos = todoRepository.findCampos(spec, CampoTodo.colunas(campos), Sort.unsorted());
+        return todoResponseMapper.toResponse(resumos, campos);
+    }
+
+    // A árvore (GET /todos/{id}/arvore) percorre até PROFUNDIDADE_MAXIMA níveis; uma subtarefa abaixo disso
+    // ficaria fora das contagens, então é recusada na criação
+    private void validarProfundidade(Long tarefaPaiId) {
+        List<Object[]> niveis = todoRepository.findNiveis(List.of(tarefaPaiId), TodoArvoreService.PROFUNDIDADE_MAXIMA);
+        if (!niveis.isEmpty() && ((Number) niveis.get(0)[1]).intValue() >= TodoArvoreService.PROFUNDIDADE_MAXIMA) {
+            throw new BusinessException(String.format(PROFUNDIDADE_EXCEDIDA, TodoArvoreService.PROFUNDIDADE_MAXIMA));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package br.com.todo.desafio_todolist.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+// Versão da tabela todos para o ETag das listagens: um contador de uma linha (todo_versao), lido pela chave
+// primária, em vez de agregar a tabela a cada GET /todos. O incremento roda na transação da escrita e é
+// confirmado ou desfeito junto com ela, então um ETag nunca valida dados que já mudaram. A linha fica travada
+// até o commit: escritas simultâneas esperam umas pelas outras só nesse UPDATE, no fim da transação.
+@Component
+@Profile("!reactive")
+public class VersaoTodos {
+
+    private static final String LER = "SELECT versao FROM todo_versao WHERE id = 1";
+    private static final String INCREMENTAR = "UPDATE todo_versao SET versao = versao + 1 WHERE id = 1";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public VersaoTodos(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public long atual() {
+        return jdbcTemplate.queryForObject(LER, Long.class);
+    }
+
+    // Chamado pelos serviços como último passo da escrita, para segurar a trava da linha pelo menor tempo.
+    // O flush antes do UPDATE faz toda escrita travar as linhas de todos antes da de todo_versao, sempre na
+    // mesma ordem, sem deadlock entre duas escritas.
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void incrementar() {
+        entityManager.flush();
+        jdbcTemplate.update(INCREMENTAR);
+    }
+}
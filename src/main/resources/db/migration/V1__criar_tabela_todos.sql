@@ -0,0 +1,12 @@
+CREATE TABLE todos (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nome VARCHAR(100) NOT NULL,
+    descricao VARCHAR(500),
+    realizado BOOLEAN NOT NULL,
+    prioridade INT NOT NULL,
+    data_vencimento DATETIME(6),
+    data_criacao DATETIME(6) NOT NULL,
+    data_atualizacao DATETIME(6),
+    tarefa_pai_id BIGINT,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,10 @@
+-- Filtros por status e vencimento: findWithFilters, findTarefasVencidas,
+-- findTarefasComVencimentoProximo, findByRealizadoAndTarefaPaiIsNull e countSubtarefasPendentes
+CREATE INDEX idx_todos_pai_realizado_vencimento ON todos (tarefa_pai_id, realizado, data_vencimento);
+
+-- Filtro por prioridade e ordenação padrão (prioridade, nome): findByPrioridadeAndTarefaPaiIsNull,
+-- findByTarefaPaiId e listagem paginada
+CREATE INDEX idx_todos_pai_prioridade_nome ON todos (tarefa_pai_id, prioridade, nome);
+
+-- A FK é criada depois dos índices compostos para reaproveitá-los em vez de gerar um índice só de tarefa_pai_id
+ALTER TABLE todos ADD CONSTRAINT fk_todos_tarefa_pai FOREIGN KEY (tarefa_pai_id) REFERENCES todos (id);
@@ -0,0 +1,2 @@
+-- Controle de concorrência otimista (@Version) e base dos ETags
+ALTER TABLE todos ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,3 @@
+-- Estatísticas por prioridade (findEstatisticasPorPrioridade): o GROUP BY percorre o índice já na ordem
+-- de prioridade e lê realizado e data_vencimento dele mesmo, sem acessar as linhas da tabela
+CREATE INDEX idx_todos_pai_prioridade_realizado_vencimento ON todos (tarefa_pai_id, prioridade, realizado, data_vencimento);
@@ -0,0 +1,13 @@
+-- Canal de invalidação do cache de segundo nível entre instâncias (profile cache-l2).
+-- Cada instância grava as tarefas alteradas após o commit e lê as gravadas pelas outras;
+-- as linhas antigas são apagadas periodicamente.
+CREATE TABLE todo_invalidacoes (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    instancia VARCHAR(36) NOT NULL,
+    todo_id BIGINT NOT NULL,
+    tarefa_pai_id BIGINT,
+    data_criacao DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_todo_invalidacoes_data ON todo_invalidacoes (data_criacao);
@@ -0,0 +1,12 @@
+-- Respostas de POST /todos e POST /todos/{id}/subtarefas por Idempotency-Key, no modo
+-- todo.idempotencia.armazenamento=tabela. As linhas vencidas são apagadas periodicamente.
+CREATE TABLE todo_idempotencia (
+    chave VARCHAR(255) NOT NULL,
+    impressao CHAR(32) NOT NULL,
+    status INT NOT NULL,
+    corpo TEXT NOT NULL,
+    data_criacao DATETIME(6) NOT NULL,
+    PRIMARY KEY (chave)
+);
+
+CREATE INDEX idx_todo_idempotencia_data ON todo_idempotencia (data_criacao);
@@ -0,0 +1,9 @@
+-- Contador de alterações da tabela todos, usado no ETag das listagens. Uma única linha, incrementada
+-- após o commit de cada escrita.
+CREATE TABLE todo_versao (
+    id INT NOT NULL,
+    versao BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+
+INSERT INTO todo_versao (id, versao) VALUES (1, 0);
@@ -0,0 +1,49 @@
+package br.com.todo.desafio_todolist.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class ValidadorProducaoTest {
+
+    @Test
+    void configuracaoDoPerfilNaoGeraAlertas() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.hibernate.ddl-auto", "validate")
+                .withProperty("spring.jpa.properties.hibernate.jdbc.batch_size", "50")
+                .withProperty("spring.jpa.properties.hibernate.order_inserts", "true")
+                .withProperty("spring.jpa.properties.hibernate.order_updates", "true")
+                .withProperty("spring.jpa.open-in-view", "false");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/todolist_db?useCursorFetch=true");
+        ValidadorProducao.OPCOES_MYSQL.forEach(opcao -> dataSource.addDataSourceProperty(opcao, "true"));
+        dataSource.setMaximumPoolSize(ProducaoConfig.tamanhoPoolRecomendado(Runtime.getRuntime().availableProcessors()));
+
+        assertThat(new ValidadorProducao(environment, dataSource).verificar()).isEmpty();
+    }
+
+    @Test
+    void configuracaoAntigaDoDockerGeraAlertas() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.jpa.hibernate.ddl-auto", "create-drop")
+                .withProperty("spring.jpa.show-sql", "true")
+                .withProperty("logging.level.br.com.todo.desafio_todolist", "DEBUG");
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:mysql://localhost:3306/todolist_db?useSSL=false");
+        dataSource.setMaximumPoolSize(500);
+
+        assertThat(new ValidadorProducao(environment, dataSource).verificar())
+                .anyMatch(alerta -> alerta.contains("ddl-auto=create-drop"))
+                .anyMatch(alerta -> alerta.contains("batch_size"))
+                .anyMatch(alerta -> alerta.contains("order_inserts"))
+                .anyMatch(alerta -> alerta.contains("show-sql"))
+                .anyMatch(alerta -> alerta.contains("open-in-view"))
+                .anyMatch(alerta -> alerta.contains("logging.level.br.com.todo.desafio_todolist=DEBUG"))
+                .anyMatch(alerta -> alerta.contains("rewriteBatchedStatements"))
+                .anyMatch(alerta -> alerta.contains("cachePrepStmts"))
+                .anyMatch(alerta -> alerta.contains("pool com 500 conexões"));
+    }
+}
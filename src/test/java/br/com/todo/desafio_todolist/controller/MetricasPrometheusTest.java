@@ -0,0 +1,38 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:metricas;DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureObservability
+class MetricasPrometheusTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void expoeMetricasDeEndpointsServicoPoolEHibernate() {
+        webTestClient.get().uri("/todos/all").exchange().expectStatus().isOk();
+
+        String metricas = webTestClient.get().uri("/actuator/prometheus").exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(metricas)
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/todos/all\"")
+                .contains("todo_service_seconds_bucket{")
+                .contains("method=\"listAll\"")
+                .contains("hikaricp_connections_active")
+                .contains("hibernate_query_executions_total");
+    }
+}
@@ -0,0 +1,114 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import br.com.todo.desafio_todolist.service.IndiceBusca;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:busca;DB_CLOSE_DELAY=-1"
+})
+class TodoBuscaControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private IndiceBusca indiceBusca;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void limpar() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+        indiceBusca.reindexar();
+    }
+
+    @Test
+    void buscaIgnoraAcentosEPluralEOrdenaPorRelevancia() {
+        Long descricao = criar("Revisar contrato", "Conferir os relatórios do trimestre", 3);
+        Long nome = criar("Relatório mensal", "Enviar para a diretoria", 1);
+        criar("Comprar café", null, 5);
+
+        // O termo no nome pesa mais que na descrição
+        webTestClient.get().uri("/todos/busca?q=relatorio").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].id").value(contains(nome.intValue(), descricao.intValue()))
+                .jsonPath("$.totalElements").isEqualTo(2);
+
+        // Todos os termos precisam aparecer; stopwords são ignoradas
+        webTestClient.get().uri("/todos/busca?q=relatórios do trimestre").exchange()
+                .expectBody().jsonPath("$.content[*].id").value(contains(descricao.intValue()));
+
+        // Filtros da listagem aplicados sobre os resultados
+        webTestClient.get().uri("/todos/busca?q=relatorio&prioridade=3").exchange()
+                .expectBody().jsonPath("$.content[*].id").value(contains(descricao.intValue()));
+    }
+
+    @Test
+    void indiceAcompanhaAsAlteracoes() {
+        Long id = criar("Pagar boleto", null, 2);
+
+        webTestClient.put().uri("/todos/{id}", id)
+                .bodyValue(Map.of("nome", "Pagar fatura", "prioridade", 2))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/todos/busca?q=boleto").exchange()
+                .expectBody().jsonPath("$.content").value(empty());
+        webTestClient.get().uri("/todos/busca?q=faturas").exchange()
+                .expectBody().jsonPath("$.content[*].id").value(contains(id.intValue()));
+
+        webTestClient.delete().uri("/todos/{id}", id).exchange().expectStatus().isNoContent();
+        webTestClient.get().uri("/todos/busca?q=fatura").exchange()
+                .expectBody().jsonPath("$.content").value(empty());
+    }
+
+    @Test
+    void reindexacaoIncluiEscritasFeitasForaDoServico() {
+        Todo todo = todoRepository.save(new Todo("Agendar dentista", null, false, 2));
+
+        webTestClient.get().uri("/todos/busca?q=dentista").exchange()
+                .expectBody().jsonPath("$.content").value(empty());
+
+        webTestClient.post().uri("/todos/busca/reindexar").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.indexadas").isEqualTo(1);
+        webTestClient.get().uri("/todos/busca?q=dentista").exchange()
+                .expectBody().jsonPath("$.content[*].id").value(contains(todo.getId().intValue()));
+    }
+
+    @Test
+    void buscaSemTermosRetornaErro() {
+        webTestClient.get().uri("/todos/busca?q=de para").exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private Long criar(String nome, String descricao, int prioridade) {
+        Map<String, Object> corpo = descricao != null
+                ? Map.of("nome", nome, "descricao", descricao, "prioridade", prioridade)
+                : Map.of("nome", nome, "prioridade", prioridade);
+        Map<?, ?> criado = webTestClient.post().uri("/todos").bodyValue(corpo).exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+}
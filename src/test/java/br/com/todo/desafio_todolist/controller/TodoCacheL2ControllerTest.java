@@ -0,0 +1,118 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.DesafioTodolistApplication;
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+// Duas instâncias com cache de segundo nível sobre o mesmo banco H2, no lugar de réplicas com MySQL:
+// as escritas feitas pela instância do teste precisam sair do cache da outra.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=" + TodoCacheL2ControllerTest.URL,
+    "todo.cache.l2.intervalo=PT0.1S"
+})
+@ActiveProfiles({"dev", "cache-l2"})
+class TodoCacheL2ControllerTest {
+
+    static final String URL = "jdbc:h2:mem:cachel2;DB_CLOSE_DELAY=-1";
+
+    private static ConfigurableApplicationContext outraInstancia;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeAll
+    static void subirOutraInstancia() {
+        outraInstancia = new SpringApplicationBuilder(DesafioTodolistApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .profiles("dev", "cache-l2")
+                .run("--spring.datasource.url=" + URL, "--todo.cache.l2.intervalo=PT0.1S");
+    }
+
+    @AfterAll
+    static void pararOutraInstancia() {
+        outraInstancia.close();
+    }
+
+    @Test
+    void escritaEmUmaInstanciaInvalidaOCacheDaOutra() {
+        TodoRepository repositorio = outraInstancia.getBean(TodoRepository.class);
+        SessionFactory sessionFactory = outraInstancia.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class);
+        Statistics estatisticas = sessionFactory.getStatistics();
+
+        Long id = criar("original", 4);
+        assertThat(repositorio.findById(id)).get().extracting(Todo::getNome).isEqualTo("original");
+        assertThat(sessionFactory.getCache().containsEntity(Todo.class, id)).isTrue();
+
+        // A segunda leitura da consulta vem do cache
+        repositorio.findByPrioridadeAndTarefaPaiIsNull(4);
+        long acertos = estatisticas.getQueryCacheHitCount();
+        assertThat(repositorio.findByPrioridadeAndTarefaPaiIsNull(4)).hasSize(1);
+        assertThat(estatisticas.getQueryCacheHitCount()).isEqualTo(acertos + 1);
+
+        webTestClient.put().uri("/todos/{id}", id)
+                .bodyValue(Map.of("nome", "alterada", "prioridade", 4))
+                .exchange()
+                .expectStatus().isOk();
+        Long nova = criar("nova", 4);
+
+        // A alteração e a inclusão podem chegar em passagens diferentes: espera pelos resultados, não pela remoção
+        aguardar(() -> repositorio.findById(id).map(Todo::getNome).filter("alterada"::equals).isPresent());
+        aguardar(() -> repositorio.findByPrioridadeAndTarefaPaiIsNull(4).stream()
+                .map(resumo -> resumo.getId())
+                .collect(Collectors.toSet())
+                .equals(Set.of(id, nova)));
+
+        // A instância que escreveu não lê o próprio canal: o Hibernate já atualizou o cache local
+        assertThat(entityManagerFactory.unwrap(SessionFactory.class).getCache().containsEntity(Todo.class, id)).isTrue();
+    }
+
+    private Long criar(String nome, int prioridade) {
+        Map<?, ?> criado = webTestClient.post().uri("/todos")
+                .bodyValue(Map.of("nome", nome, "prioridade", prioridade))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+
+    private static void aguardar(BooleanSupplier condicao) {
+        long limite = System.currentTimeMillis() + 10_000;
+        while (!condicao.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("invalidação não recebida").isLessThan(limite);
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+
+import br.com.todo.desafio_todolist.repository.SqlCapturado;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:campos;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.todo.desafio_todolist.repository.SqlCapturado",
+    "server.compression.enabled=true",
+    "server.compression.min-response-size=1"
+})
+class TodoCamposControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int porta;
+
+    private Long tarefaId;
+
+    @BeforeEach
+    void popular() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        tarefaId = criar("/todos", Map.of("nome", "tarefa", "descricao", "descrição longa", "prioridade", 5));
+        Long subtarefaId = criar("/todos/" + tarefaId + "/subtarefas", Map.of("nome", "sub_1", "prioridade", 3));
+        criar("/todos/" + tarefaId + "/subtarefas", Map.of("nome", "sub_2", "prioridade", 3));
+        criar("/todos/" + subtarefaId + "/subtarefas", Map.of("nome", "neta", "prioridade", 1));
+        SqlCapturado.limpar();
+    }
+
+    @Test
+    void listagemProjetaESerializaSoOsCamposPedidos() {
+        webTestClient.get().uri("/todos?fields=id,nome")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(tarefaId)
+                .jsonPath("$.content[0].nome").isEqualTo("tarefa")
+                .jsonPath("$.content[0].descricao").doesNotExist()
+                .jsonPath("$.content[0].prioridade").doesNotExist()
+                .jsonPath("$.content[0].subtarefas").doesNotExist()
+                .jsonPath("$.content[0].subtarefasPendentes").doesNotExist();
+
+        // Sem subtarefas nos campos, nenhuma consulta de subtarefas e nenhuma coluna além das pedidas
+        List<String> consultas = SqlCapturado.consultas();
+        assertThat(consultas).noneMatch(sql -> sql.contains("descricao") || sql.contains("prioridade,"));
+        assertThat(consultas).noneMatch(sql -> sql.contains("tarefa_pai_id in"));
+    }
+
+    @Test
+    void subtarefasUsamOsMesmosCampos() {
+        webTestClient.get().uri("/todos/all?fields=nome,subtarefas")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[0].nome").isEqualTo("tarefa")
+                .jsonPath("$[0].id").doesNotExist()
+                .jsonPath("$[0].subtarefas.length()").isEqualTo(2)
+                .jsonPath("$[0].subtarefas[0].nome").isEqualTo("sub_1")
+                .jsonPath("$[0].subtarefas[0].tarefaPaiId").doesNotExist()
+                .jsonPath("$[0].subtarefas[0].subtarefas[0].nome").isEqualTo("neta");
+
+        webTestClient.get().uri("/todos/status/false?fields=nome,subtarefasPendentes")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(1)
+                .jsonPath("$[0].subtarefasPendentes").isEqualTo(2)
+                .jsonPath("$[0].subtarefas").doesNotExist()
+                .jsonPath("$[0].realizado").doesNotExist();
+    }
+
+    @Test
+    void campoInvalidoRetornaErro() {
+        webTestClient.get().uri("/todos/prioridade/5?fields=nome,senha")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    void cborEscolhidoPeloAccept() throws IOException {
+        byte[] corpo = webTestClient.get().uri("/todos/prioridade/5?fields=nome,dataCriacao")
+                .accept(MediaType.parseMediaType("application/cbor"))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType("application/cbor")
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        List<Map<String, Object>> todos = new CBORMapper().readValue(corpo, new TypeReference<>() {});
+        Map<String, Object> tarefa = todos.get(0);
+        assertThat(tarefa).containsOnlyKeys("nome", "dataCriacao");
+        // Datas como no JSON (ISO-8601), pela mesma configuração do ObjectMapper
+        assertThat(tarefa.get("dataCriacao")).isInstanceOf(String.class);
+    }
+
+    // O cliente do WebTestClient descomprime e remove o Content-Encoding, então a resposta é lida sem ele
+    @Test
+    void respostaComprimidaQuandoOClienteAceitaGzip() throws Exception {
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/todos?fields=nome"))
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .build();
+        HttpResponse<byte[]> resposta = HttpClient.newHttpClient().send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(resposta.statusCode()).isEqualTo(200);
+        assertThat(resposta.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+        try (GZIPInputStream corpo = new GZIPInputStream(new ByteArrayInputStream(resposta.body()))) {
+            assertThat(new String(corpo.readAllBytes(), StandardCharsets.UTF_8)).contains("\"nome\":\"tarefa\"");
+        }
+    }
+
+    private Long criar(String uri, Map<String, Object> corpo) {
+        Map<?, ?> criado = webTestClient.post().uri(uri).bodyValue(corpo).exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+}
@@ -0,0 +1,209 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:contagem;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TodoControllerQueryCountTest {
+
+    private static final int TAREFAS = 8;
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long primeiraTarefaId;
+
+    @BeforeEach
+    void popularArvore() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        // Cada tarefa tem 3 subtarefas e cada subtarefa tem 2 subtarefas
+        for (int i = 0; i < TAREFAS; i++) {
+            Todo tarefa = new Todo("tarefa_" + i, null, false, 3);
+            for (int j = 0; j < 3; j++) {
+                Todo subtarefa = new Todo("sub_" + i + "_" + j, null, false, 2);
+                subtarefa.adicionarSubtarefa(new Todo("neta_" + i + "_" + j + "_a", null, true, 1));
+                subtarefa.adicionarSubtarefa(new Todo("neta_" + i + "_" + j + "_b", null, false, 1));
+                tarefa.adicionarSubtarefa(subtarefa);
+            }
+            todoRepository.save(tarefa);
+        }
+        primeiraTarefaId = todoRepository.findByTarefaPaiIsNull().get(0).getId();
+        estatisticas().clear();
+    }
+
+    @Test
+    void listagemPaginadaNaoDependeDoNumeroDeTarefas() {
+        get("/todos?size=" + TAREFAS);
+        // página + COUNT + um IN por nível (subtarefas, netas e a verificação do nível vazio); a versão da tabela
+        // (ETag) é lida por JDBC, pela chave primária de todo_versao, fora das estatísticas do Hibernate
+        assertThat(consultas()).isEqualTo(5);
+    }
+
+    @Test
+    void listagemPorCursor() {
+        get("/todos/cursor?size=" + TAREFAS);
+        assertThat(consultas()).isEqualTo(4);
+    }
+
+    @Test
+    void listagemCompletaUsaUmaConsulta() {
+        get("/todos/all");
+        assertThat(consultas()).isEqualTo(1);
+    }
+
+    @Test
+    void buscaPorId() {
+        get("/todos/" + primeiraTarefaId);
+        assertThat(consultas()).isEqualTo(4);
+    }
+
+    @Test
+    void buscaPorIdRepetidaUsaCacheAteAlteracao() {
+        get("/todos/" + primeiraTarefaId);
+        estatisticas().clear();
+
+        get("/todos/" + primeiraTarefaId);
+        get("/todos/" + primeiraTarefaId + "/subtarefas");
+        get("/todos/" + primeiraTarefaId + "/subtarefas");
+        assertThat(consultas()).isEqualTo(4);
+
+        // Alterar uma neta invalida a tarefa raiz, que inclui a árvore inteira
+        Long netaId = todoRepository.findByTarefaPaiId(
+                todoRepository.findByTarefaPaiId(primeiraTarefaId).get(0).getId()).get(0).getId();
+        webTestClient.patch().uri("/todos/" + netaId + "/status?realizado=false").exchange().expectStatus().isOk();
+        webTestClient.get().uri("/todos/" + primeiraTarefaId).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.subtarefas[0].subtarefas[0].realizado").isEqualTo(false);
+    }
+
+    @Test
+    void listagemPorStatusEPrioridade() {
+        get("/todos/status/false");
+        assertThat(consultas()).isEqualTo(4);
+
+        estatisticas().clear();
+        get("/todos/prioridade/3");
+        assertThat(consultas()).isEqualTo(4);
+    }
+
+    @Test
+    void listagemDeSubtarefas() {
+        get("/todos/" + primeiraTarefaId + "/subtarefas");
+        // tarefa pai + subtarefas + netas + verificação do nível vazio
+        assertThat(consultas()).isEqualTo(4);
+    }
+
+    @Test
+    void arvoreCompletaUsaUmaConsulta() {
+        webTestClient.get().uri("/todos/" + primeiraTarefaId + "/arvore").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalSubtarefas").isEqualTo(3)
+                .jsonPath("$.totalDescendentes").isEqualTo(9)
+                .jsonPath("$.descendentesConcluidos").isEqualTo(3)
+                .jsonPath("$.subtarefas[0].subtarefas.length()").isEqualTo(2)
+                .jsonPath("$.subtarefas[0].descendentesConcluidos").isEqualTo(1);
+        assertThat(consultas()).isEqualTo(1);
+    }
+
+    @Test
+    void arvoreRespeitaProfundidadeELimite() {
+        // As contagens continuam cobrindo a subárvore inteira
+        webTestClient.get().uri("/todos/" + primeiraTarefaId + "/arvore?profundidade=1&limiteSubtarefas=2").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.subtarefas.length()").isEqualTo(2)
+                .jsonPath("$.totalSubtarefas").isEqualTo(3)
+                .jsonPath("$.subtarefas[0].subtarefas.length()").isEqualTo(0)
+                .jsonPath("$.subtarefas[0].totalDescendentes").isEqualTo(2)
+                .jsonPath("$.descendentesConcluidos").isEqualTo(3);
+        assertThat(consultas()).isEqualTo(1);
+    }
+
+    @Test
+    void subtarefaAlemDaProfundidadeMaximaEhRecusada() {
+        // Corrente com 50 níveis abaixo da raiz, o limite percorrido pela árvore
+        Todo raiz = new Todo("nivel_0", null, false, 3);
+        Todo atual = raiz;
+        for (int nivel = 1; nivel <= 50; nivel++) {
+            Todo subtarefa = new Todo("nivel_" + nivel, null, false, 3);
+            atual.adicionarSubtarefa(subtarefa);
+            atual = subtarefa;
+        }
+        todoRepository.save(raiz);
+
+        webTestClient.post().uri("/todos/{id}/subtarefas", idDe("nivel_50"))
+                .bodyValue(Map.of("nome", "funda demais", "prioridade", 3))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Uma tarefa pode ter no máximo 50 níveis de subtarefas.");
+        webTestClient.post().uri("/todos/{id}/subtarefas", idDe("nivel_49"))
+                .bodyValue(Map.of("nome", "no limite", "prioridade", 3))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/todos/{id}/arvore", idDe("nivel_0")).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.totalDescendentes").isEqualTo(51);
+    }
+
+    @Test
+    void verificacaoDeSubtarefasNaoCarregaAColecao() {
+        webTestClient.patch().uri("/todos/" + primeiraTarefaId + "/status?realizado=true").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Não é possível concluir a tarefa. Existem 3 subtarefa(s) pendente(s).");
+        // tarefa + contagem de pendentes
+        assertThat(consultas()).isEqualTo(2);
+
+        estatisticas().clear();
+        webTestClient.delete().uri("/todos/" + primeiraTarefaId).exchange().expectStatus().isBadRequest();
+        assertThat(consultas()).isEqualTo(2);
+    }
+
+    private Long idDe(String nome) {
+        return jdbcTemplate.queryForObject("SELECT id FROM todos WHERE nome = ?", Long.class, nome);
+    }
+
+    private void get(String uri) {
+        webTestClient.get().uri(uri).exchange().expectStatus().isOk();
+    }
+
+    private long consultas() {
+        return estatisticas().getPrepareStatementCount();
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.dto.CursorPageDTO;
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:cursor;DB_CLOSE_DELAY=-1"
+})
+class TodoCursorControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<TodoResponseDTO> criadas = new ArrayList<>();
+
+    // Prioridades e nomes repetidos: o desempate pelo id decide a posição dentro de cada grupo
+    @BeforeEach
+    void popular() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+        criadas.clear();
+
+        int[] prioridades = {3, 5, 3, 1, 5, 3, 3};
+        String[] nomes = {"b", "a", "b", "c", "a", "b", "a"};
+        for (int i = 0; i < prioridades.length; i++) {
+            criadas.add(criar(nomes[i], prioridades[i]));
+        }
+        Long pai = criadas.get(0).getId();
+        webTestClient.post().uri("/todos/{id}/subtarefas", pai)
+                .bodyValue(Map.of("nome", "subtarefa", "prioridade", 5))
+                .exchange()
+                .expectStatus().isCreated();
+    }
+
+    @Test
+    void paginasPercorremTodasAsTarefasSemRepetirNemPular() {
+        List<Long> esperados = criadas.stream()
+                .sorted(Comparator.comparing(TodoResponseDTO::getPrioridade)
+                        .thenComparing(TodoResponseDTO::getId)
+                        .reversed())
+                .map(TodoResponseDTO::getId)
+                .toList();
+
+        assertThat(percorrer("prioridade", "desc", 2)).containsExactlyElementsOf(esperados);
+    }
+
+    @Test
+    void ultimaPaginaCheiaNaoIndicaProxima() {
+        List<Long> esperados = criadas.stream()
+                .sorted(Comparator.comparing(TodoResponseDTO::getNome).thenComparing(TodoResponseDTO::getId))
+                .map(TodoResponseDTO::getId)
+                .toList();
+
+        // 7 tarefas em páginas de 7 e de 1: a última página termina exatamente no último item
+        assertThat(percorrer("nome", "asc", 7)).containsExactlyElementsOf(esperados);
+        assertThat(percorrer("nome", "ASC", 1)).containsExactlyElementsOf(esperados);
+    }
+
+    @Test
+    void direcaoInvalidaDevolve400() {
+        webTestClient.get().uri("/todos/cursor?sortDir=para-cima")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Direção de ordenação inválida: para-cima");
+    }
+
+    @Test
+    void cursorDeOutraOrdenacaoDevolve400() {
+        CursorPageDTO<TodoResponseDTO> pagina = pagina("prioridade", "desc", 2, null);
+
+        webTestClient.get().uri("/todos/cursor?sortBy=prioridade&sortDir=asc&size=2&cursor={cursor}", pagina.getNextCursor())
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private List<Long> percorrer(String sortBy, String sortDir, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        CursorPageDTO<TodoResponseDTO> pagina;
+        do {
+            pagina = pagina(sortBy, sortDir, size, cursor);
+            assertThat(pagina.getContent()).hasSizeLessThanOrEqualTo(size);
+            pagina.getContent().forEach(todo -> ids.add(todo.getId()));
+            cursor = pagina.getNextCursor();
+            assertThat(cursor != null).isEqualTo(pagina.isHasNext());
+        } while (pagina.isHasNext());
+        assertThat(ids).doesNotHaveDuplicates();
+        return ids;
+    }
+
+    private CursorPageDTO<TodoResponseDTO> pagina(String sortBy, String sortDir, int size, String cursor) {
+        return webTestClient.get()
+                .uri(uri -> uri.path("/todos/cursor")
+                        .queryParam("sortBy", sortBy)
+                        .queryParam("sortDir", sortDir)
+                        .queryParam("size", size)
+                        .queryParamIfPresent("cursor", Optional.ofNullable(cursor))
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(new ParameterizedTypeReference<CursorPageDTO<TodoResponseDTO>>() {})
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private TodoResponseDTO criar(String nome, int prioridade) {
+        return webTestClient.post().uri("/todos")
+                .bodyValue(Map.of("nome", nome, "prioridade", prioridade))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TodoResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,88 @@
+package br.com.todo.desafio_todolist.controller;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:estatisticas;DB_CLOSE_DELAY=-1"
+})
+class TodoEstatisticasControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void limpar() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @Test
+    void contagensPorPrioridadeEPorPeriodo() {
+        // 2030-01-07 é uma segunda-feira
+        Long segunda = criar(5, LocalDateTime.parse("2030-01-07T10:00:00"));
+        Long quarta = criar(5, LocalDateTime.parse("2030-01-09T18:30:00"));
+        criar(3, LocalDateTime.parse("2030-01-15T09:00:00"));
+        criar(1, LocalDateTime.now().minusDays(1));
+        concluir(quarta);
+
+        // Subtarefas ficam fora das contagens, como em /todos/status e /todos/prioridade
+        webTestClient.post().uri("/todos/{id}/subtarefas", segunda)
+                .bodyValue(Map.of("nome", "subtarefa", "prioridade", 5))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/todos/estatisticas?agrupamento=semana&data=vencimento&inicio=2030-01-08&fim=2030-01-20")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(4)
+                .jsonPath("$.concluidas").isEqualTo(1)
+                .jsonPath("$.pendentes").isEqualTo(3)
+                .jsonPath("$.vencidas").isEqualTo(1)
+                .jsonPath("$.percentualConcluido").isEqualTo(25.0)
+                .jsonPath("$.porPrioridade.length()").isEqualTo(3)
+                .jsonPath("$.porPrioridade[2].prioridade").isEqualTo(5)
+                .jsonPath("$.porPrioridade[2].total").isEqualTo(2)
+                .jsonPath("$.porPrioridade[2].concluidas").isEqualTo(1)
+                .jsonPath("$.periodos.length()").isEqualTo(2)
+                .jsonPath("$.periodos[0].inicio").isEqualTo("2030-01-07")
+                .jsonPath("$.periodos[0].total").isEqualTo(2)
+                .jsonPath("$.periodos[0].concluidas").isEqualTo(1)
+                .jsonPath("$.periodos[1].inicio").isEqualTo("2030-01-14")
+                .jsonPath("$.periodos[1].total").isEqualTo(1);
+    }
+
+    @Test
+    void intervaloLongoDemaisRetornaErro() {
+        webTestClient.get().uri("/todos/estatisticas?agrupamento=dia&inicio=2030-01-01&fim=2031-12-31")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    private Long criar(int prioridade, LocalDateTime dataVencimento) {
+        Map<String, Object> corpo = new HashMap<>(Map.of("nome", "tarefa", "prioridade", prioridade));
+        corpo.put("dataVencimento", dataVencimento);
+        Map<?, ?> criado = webTestClient.post().uri("/todos").bodyValue(corpo).exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+
+    private void concluir(Long id) {
+        webTestClient.patch().uri("/todos/{id}/status?realizado=true", id).exchange().expectStatus().isOk();
+    }
+}
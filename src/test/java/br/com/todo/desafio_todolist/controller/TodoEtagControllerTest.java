@@ -0,0 +1,148 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:etag;DB_CLOSE_DELAY=-1"
+})
+class TodoEtagControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Todo tarefa;
+    private Todo subtarefa;
+
+    @BeforeEach
+    void popular() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        tarefa = new Todo("tarefa", null, false, 3);
+        subtarefa = new Todo("subtarefa", null, false, 2);
+        tarefa.adicionarSubtarefa(subtarefa);
+        todoRepository.save(tarefa);
+    }
+
+    @Test
+    void buscaPorIdRespondeNaoModificadoAteAlteracaoNaArvore() {
+        String etag = etag("/todos/" + tarefa.getId());
+
+        webTestClient.get().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+
+        // Alterar a subtarefa muda a representação da tarefa pai
+        webTestClient.patch().uri("/todos/{id}/status?realizado=true", subtarefa.getId()).exchange().expectStatus().isOk();
+
+        webTestClient.get().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().value(HttpHeaders.ETAG, novo -> assertThat(novo).isNotEqualTo(etag))
+                .expectBody().jsonPath("$.subtarefas[0].realizado").isEqualTo(true);
+    }
+
+    @Test
+    void exclusaoDeSubtarefaAvancaOLastModified() {
+        // Datas no passado: a exclusão acontece em um segundo posterior a qualquer alteração anterior
+        jdbcTemplate.update("UPDATE todos SET data_criacao = TIMESTAMPADD(HOUR, -1, LOCALTIMESTAMP), data_atualizacao = NULL");
+        String ultimaAlteracao = webTestClient.get().uri("/todos/{id}", tarefa.getId()).exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getFirst(HttpHeaders.LAST_MODIFIED);
+
+        webTestClient.get().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_MODIFIED_SINCE, ultimaAlteracao)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.delete().uri("/todos/{id}", subtarefa.getId()).exchange().expectStatus().isNoContent();
+
+        webTestClient.get().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_MODIFIED_SINCE, ultimaAlteracao)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.subtarefas").isEmpty();
+    }
+
+    @Test
+    void ifMatchDesatualizadoImpedeSobrescrita() {
+        String etag = etag("/todos/" + tarefa.getId());
+        Map<String, Object> alteracao = Map.of("nome", "primeira", "prioridade", 4);
+
+        String novoEtag = webTestClient.put().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(alteracao)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.versao").isEqualTo(1)
+                .returnResult()
+                .getResponseHeaders()
+                .getETag();
+        assertThat(novoEtag).isNotEqualTo(etag).isEqualTo(etag("/todos/" + tarefa.getId()));
+
+        // Segundo cliente ainda com a versão lida antes da primeira alteração
+        webTestClient.put().uri("/todos/{id}", tarefa.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .bodyValue(Map.of("nome", "segunda", "prioridade", 1))
+                .exchange()
+                .expectStatus().isEqualTo(412);
+        webTestClient.patch().uri("/todos/{id}/status?realizado=false", tarefa.getId())
+                .header(HttpHeaders.IF_MATCH, etag)
+                .exchange()
+                .expectStatus().isEqualTo(412);
+
+        assertThat(todoRepository.findById(tarefa.getId()).orElseThrow().getNome()).isEqualTo("primeira");
+    }
+
+    @Test
+    void listagemUsaVersaoDaTabela() {
+        String etag = etag("/todos?size=5");
+
+        webTestClient.get().uri("/todos?size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        webTestClient.post().uri("/todos").bodyValue(Map.of("nome", "nova", "prioridade", 1))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/todos?size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.content[?(@.nome == 'nova')]").exists();
+    }
+
+    private String etag(String uri) {
+        return webTestClient.get().uri(uri).exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+    }
+}
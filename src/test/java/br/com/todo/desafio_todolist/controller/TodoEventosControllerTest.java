@@ -0,0 +1,90 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import reactor.core.publisher.Flux;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:eventos;DB_CLOSE_DELAY=-1"
+})
+class TodoEventosControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void assinanteRecebeApenasAlteracoesDoFiltro() {
+        Flux<ServerSentEvent<Map<String, Object>>> eventos = webTestClient.get()
+                .uri("/todos/eventos?prioridade=5")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .getResponseBody();
+
+        Long urgente = criar("urgente", 5);
+        criar("baixa", 1);
+        Long outraUrgente = criar("outra_urgente", 5);
+
+        List<ServerSentEvent<Map<String, Object>>> recebidos = eventos
+                .filter(evento -> evento.event() != null)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(recebidos).extracting(ServerSentEvent::event).containsExactly("criado", "criado");
+        assertThat(recebidos).extracting(evento -> ((Number) ((Map<?, ?>) evento.data().get("todo")).get("id")).longValue())
+                .containsExactly(urgente, outraUrgente);
+        assertThat(Long.parseLong(recebidos.get(1).id())).isGreaterThan(Long.parseLong(recebidos.get(0).id()));
+    }
+
+    @Test
+    void assinanteEhAvisadoQuandoATarefaSaiDoFiltro() {
+        Long id = criar("pendente", 2);
+        Flux<ServerSentEvent<Map<String, Object>>> eventos = webTestClient.get()
+                .uri("/todos/eventos?realizado=false")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<Map<String, Object>>>() {})
+                .getResponseBody();
+
+        webTestClient.patch().uri("/todos/{id}/status?realizado=true", id).exchange().expectStatus().isOk();
+        webTestClient.patch().uri("/todos/{id}/status?realizado=false", id).exchange().expectStatus().isOk();
+
+        List<ServerSentEvent<Map<String, Object>>> recebidos = eventos
+                .filter(evento -> evento.event() != null)
+                .take(2)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        // A conclusão não atende mais ao filtro, mas chega marcada como saída; a reabertura volta a atender
+        assertThat(recebidos).extracting(ServerSentEvent::event).containsExactly("status", "status");
+        assertThat(recebidos).extracting(evento -> (Object) evento.data().get("saiu")).containsExactly(true, false);
+        assertThat(recebidos).extracting(evento -> (Object) ((Map<?, ?>) evento.data().get("todo")).get("realizado"))
+                .containsExactly(true, false);
+    }
+
+    private Long criar(String nome, int prioridade) {
+        Map<?, ?> criado = webTestClient.post().uri("/todos")
+                .bodyValue(Map.of("nome", nome, "prioridade", prioridade))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+}
@@ -0,0 +1,72 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:exportacao;DB_CLOSE_DELAY=-1"
+})
+class TodoExportControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void popular() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        Todo tarefa = new Todo("tarefa", "com \"aspas\", vírgula", false, 3);
+        tarefa.adicionarSubtarefa(new Todo("subtarefa", null, true, 1));
+        todoRepository.save(tarefa);
+    }
+
+    @Test
+    void exportaNdjsonComUmaLinhaPorTarefa() {
+        String corpo = exportar("ndjson");
+
+        String[] linhas = corpo.split("\n");
+        assertThat(linhas).hasSize(2);
+        assertThat(linhas[0]).startsWith("{").contains("\"nome\":\"tarefa\"");
+        assertThat(linhas[1]).contains("\"nome\":\"subtarefa\"", "\"tarefaPaiId\":");
+    }
+
+    @Test
+    void exportaCsvComCampoEscapado() {
+        String corpo = exportar("csv");
+
+        String[] linhas = corpo.split("\n");
+        assertThat(linhas).hasSize(3);
+        assertThat(linhas[0]).isEqualTo("id,nome,descricao,realizado,prioridade,dataVencimento,dataCriacao,dataAtualizacao,tarefaPaiId");
+        assertThat(linhas[1]).contains(",tarefa,\"com \"\"aspas\"\", vírgula\",false,3,,");
+    }
+
+    @Test
+    void formatoInvalido() {
+        webTestClient.get().uri("/todos/export?formato=xml").exchange().expectStatus().isBadRequest();
+    }
+
+    private String exportar(String formato) {
+        return webTestClient.get().uri("/todos/export?formato=" + formato).exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("Content-Disposition", "attachment; filename=\"todos." + formato + "\"")
+                .expectBody(String.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,143 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.service.FilaStatus;
+
+// Intervalo longo: a fila só é gravada pelas leituras, pelo encerramento ou explicitamente
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:filastatus;DB_CLOSE_DELAY=-1",
+    "todo.status.write-behind=true",
+    "todo.status.fila.capacidade=2",
+    "todo.status.fila.intervalo=PT1H"
+})
+class TodoFilaStatusControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private FilaStatus filaStatus;
+
+    @BeforeEach
+    void limpar() {
+        filaStatus.gravar();
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+    }
+
+    @Test
+    void alteracoesAceitasSaoAgrupadasEVistasNaLeitura() {
+        Long id = criar("/todos", "tarefa");
+
+        alterar(id, true).expectStatus().isAccepted()
+                .expectBody().jsonPath("$.realizado").isEqualTo(true);
+        alterar(id, false).expectStatus().isAccepted();
+        alterar(id, true).expectStatus().isAccepted();
+        assertThat(realizadoNoBanco(id)).isFalse();
+
+        // Três alterações, um UPDATE: a versão sobe uma vez
+        webTestClient.get().uri("/todos/{id}", id).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.realizado").isEqualTo(true)
+                .jsonPath("$.versao").isEqualTo(1);
+        assertThat(realizadoNoBanco(id)).isTrue();
+    }
+
+    @Test
+    void leituraGravaSoAArvoreDaTarefaLida() {
+        Long pai = criar("/todos", "pai");
+        Long subtarefa = criar("/todos/" + pai + "/subtarefas", "subtarefa");
+        Long outra = criar("/todos", "outra");
+
+        alterar(subtarefa, true).expectStatus().isAccepted();
+        alterar(outra, true).expectStatus().isAccepted();
+
+        webTestClient.get().uri("/todos/{id}", pai).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.subtarefas[0].realizado").isEqualTo(true);
+        assertThat(realizadoNoBanco(subtarefa)).isTrue();
+        assertThat(realizadoNoBanco(outra)).isFalse();
+    }
+
+    @Test
+    void filaCheiaRecusaNovasTarefas() {
+        Long primeira = criar("/todos", "primeira");
+        Long segunda = criar("/todos", "segunda");
+        Long terceira = criar("/todos", "terceira");
+
+        alterar(primeira, true).expectStatus().isAccepted();
+        alterar(segunda, true).expectStatus().isAccepted();
+        alterar(terceira, true).expectStatus().isEqualTo(503)
+                .expectHeader().valueEquals(HttpHeaders.RETRY_AFTER, "1");
+        // A tarefa que já está na fila ainda pode ser alterada
+        alterar(primeira, false).expectStatus().isAccepted();
+
+        filaStatus.gravar();
+        alterar(terceira, true).expectStatus().isAccepted();
+    }
+
+    @Test
+    void regrasDasSubtarefasConsideramAFila() {
+        Long pai = criar("/todos", "pai");
+        Long subtarefa = criar("/todos/" + pai + "/subtarefas", "subtarefa");
+
+        alterar(pai, true).expectStatus().isBadRequest();
+        alterar(subtarefa, true).expectStatus().isAccepted();
+        alterar(pai, true).expectStatus().isAccepted();
+
+        alterar(subtarefa, false).expectStatus().isAccepted();
+        alterar(pai, false).expectStatus().isAccepted();
+        alterar(pai, true).expectStatus().isBadRequest();
+
+        webTestClient.get().uri("/todos/{id}/subtarefas", pai).exchange()
+                .expectBody().jsonPath("$[0].realizado").isEqualTo(false);
+        assertThat(realizadoNoBanco(pai)).isFalse();
+    }
+
+    @Test
+    @DirtiesContext
+    void encerramentoGravaAFila() throws InterruptedException {
+        Long id = criar("/todos", "tarefa");
+        alterar(id, true).expectStatus().isAccepted();
+
+        filaStatus.encerrar();
+
+        assertThat(realizadoNoBanco(id)).isTrue();
+        alterar(id, false).expectStatus().isEqualTo(503);
+    }
+
+    private WebTestClient.ResponseSpec alterar(Long id, boolean realizado) {
+        return webTestClient.patch().uri("/todos/{id}/status?realizado={realizado}", id, realizado).exchange();
+    }
+
+    private boolean realizadoNoBanco(Long id) {
+        return jdbcTemplate.queryForObject("SELECT realizado FROM todos WHERE id = ?", Boolean.class, id);
+    }
+
+    private Long criar(String uri, String nome) {
+        Map<?, ?> criado = webTestClient.post().uri(uri)
+                .bodyValue(Map.of("nome", nome, "prioridade", 3))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+}
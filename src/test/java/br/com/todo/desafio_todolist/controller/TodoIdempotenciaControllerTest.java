@@ -0,0 +1,118 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.dto.TodoResponseDTO;
+import br.com.todo.desafio_todolist.service.Idempotencia;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:idempotencia;DB_CLOSE_DELAY=-1"
+})
+class TodoIdempotenciaControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void limpar() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM todo_idempotencia");
+    }
+
+    @Test
+    void repeticaoDevolveAMesmaRespostaSemCriarDeNovo() {
+        String chave = UUID.randomUUID().toString();
+        Map<String, Object> corpo = Map.of("nome", "tarefa", "prioridade", 3);
+
+        EntityExchangeResult<TodoResponseDTO> primeira = criar("/todos", chave, corpo);
+        assertThat(primeira.getResponseHeaders().getFirst(Idempotencia.REPETIDA)).isNull();
+
+        EntityExchangeResult<TodoResponseDTO> repetida = criar("/todos", chave, corpo);
+        assertThat(repetida.getResponseHeaders().getFirst(Idempotencia.REPETIDA)).isEqualTo("true");
+        assertThat(repetida.getResponseBody().getId()).isEqualTo(primeira.getResponseBody().getId());
+        assertThat(repetida.getResponseBody().getNome()).isEqualTo("tarefa");
+
+        Long paiId = primeira.getResponseBody().getId();
+        String chaveSubtarefa = UUID.randomUUID().toString();
+        Long subtarefaId = criar("/todos/" + paiId + "/subtarefas", chaveSubtarefa, Map.of("nome", "sub", "prioridade", 1))
+                .getResponseBody().getId();
+        assertThat(criar("/todos/" + paiId + "/subtarefas", chaveSubtarefa, Map.of("nome", "sub", "prioridade", 1))
+                .getResponseBody().getId()).isEqualTo(subtarefaId);
+
+        assertThat(contarTodos()).isEqualTo(2);
+    }
+
+    @Test
+    void chaveReaproveitadaComOutroCorpoRetorna422() {
+        String chave = UUID.randomUUID().toString();
+        criar("/todos", chave, Map.of("nome", "tarefa", "prioridade", 3));
+
+        webTestClient.post().uri("/todos")
+                .header(Idempotencia.CABECALHO, chave)
+                .bodyValue(Map.of("nome", "outra", "prioridade", 3))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Unprocessable Entity");
+
+        assertThat(contarTodos()).isEqualTo(1);
+    }
+
+    @Test
+    void requisicoesSimultaneasComAMesmaChaveCriamUmaVez() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        Map<String, Object> corpo = Map.of("nome", "concorrente", "prioridade", 2);
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Long>> envios = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                envios.add(() -> criar("/todos", chave, corpo).getResponseBody().getId());
+            }
+            List<Long> ids = new ArrayList<>();
+            for (Future<Long> id : executor.invokeAll(envios)) {
+                ids.add(id.get());
+            }
+            assertThat(ids).containsOnly(ids.get(0));
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(contarTodos()).isEqualTo(1);
+    }
+
+    private EntityExchangeResult<TodoResponseDTO> criar(String uri, String chave, Map<String, Object> corpo) {
+        return webTestClient.post().uri(uri)
+                .header(Idempotencia.CABECALHO, chave)
+                .bodyValue(corpo)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(TodoResponseDTO.class)
+                .returnResult();
+    }
+
+    private Integer contarTodos() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Integer.class);
+    }
+}
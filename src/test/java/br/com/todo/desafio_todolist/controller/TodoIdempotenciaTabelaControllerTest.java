@@ -0,0 +1,11 @@
+package br.com.todo.desafio_todolist.controller;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+// Mesmos cenários com as respostas guardadas em todo_idempotencia
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:idempotencia_tabela;DB_CLOSE_DELAY=-1",
+    "todo.idempotencia.armazenamento=tabela"
+})
+class TodoIdempotenciaTabelaControllerTest extends TodoIdempotenciaControllerTest {
+}
@@ -0,0 +1,121 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:lote;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class TodoLoteControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Todo tarefa;
+    private Todo subtarefaA;
+    private Todo subtarefaB;
+
+    @BeforeEach
+    void popular() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+
+        tarefa = new Todo("tarefa", null, false, 3);
+        subtarefaA = new Todo("sub_a", null, false, 2);
+        subtarefaB = new Todo("sub_b", null, false, 2);
+        tarefa.adicionarSubtarefa(subtarefaA);
+        tarefa.adicionarSubtarefa(subtarefaB);
+        todoRepository.save(tarefa);
+        estatisticas().clear();
+    }
+
+    @Test
+    void criacaoEmLoteAgrupaInserts() {
+        List<Map<String, Object>> itens = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            itens.add(Map.of("nome", "importada_" + i, "prioridade", 1 + i % 5));
+        }
+        itens.add(Map.of("nome", "", "prioridade", 1));
+        itens.add(Map.of("nome", "sem_pai", "prioridade", 1, "tarefaPaiId", 999_999));
+        itens.add(Map.of("nome", "subtarefa", "prioridade", 1, "tarefaPaiId", tarefa.getId()));
+
+        webTestClient.post().uri("/todos/batch").bodyValue(itens).exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.total").isEqualTo(123)
+                .jsonPath("$.sucessos").isEqualTo(121)
+                .jsonPath("$.itens[120].sucesso").isEqualTo(false)
+                .jsonPath("$.itens[120].mensagem").isEqualTo("Nome deve ter entre 1 e 100 caracteres; Nome é obrigatório")
+                .jsonPath("$.itens[121].mensagem").isEqualTo("Todo não encontrado com id: 999999")
+                .jsonPath("$.itens[122].todo.tarefaPaiId").isEqualTo(tarefa.getId());
+
+        assertThat(todoRepository.count()).isEqualTo(124);
+        // Sem lotes JDBC seriam ao menos 121 INSERTs preparados
+        assertThat(estatisticas().getPrepareStatementCount()).isLessThan(15);
+    }
+
+    @Test
+    void statusEmLoteRespeitaSubtarefasPendentes() {
+        webTestClient.patch().uri("/todos/batch/status")
+                .bodyValue(List.of(
+                        Map.of("id", tarefa.getId(), "realizado", true),
+                        Map.of("id", subtarefaA.getId(), "realizado", true),
+                        Map.of("id", subtarefaB.getId(), "realizado", true),
+                        Map.of("id", tarefa.getId(), "realizado", true)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.itens[0].sucesso").isEqualTo(false)
+                .jsonPath("$.itens[0].mensagem").isEqualTo("Não é possível concluir a tarefa. Existem 2 subtarefa(s) pendente(s).")
+                .jsonPath("$.itens[3].sucesso").isEqualTo(true)
+                .jsonPath("$.itens[3].todo.realizado").isEqualTo(true);
+
+        assertThat(todoRepository.findById(tarefa.getId()).orElseThrow().isRealizado()).isTrue();
+    }
+
+    @Test
+    void exclusaoEmLoteRespeitaSubtarefas() {
+        webTestClient.method(HttpMethod.DELETE).uri("/todos/batch")
+                .bodyValue(List.of(tarefa.getId(), subtarefaA.getId(), subtarefaB.getId(), tarefa.getId(), 999_999))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.itens[0].mensagem").isEqualTo("Não é possível excluir uma tarefa que possui subtarefas.")
+                .jsonPath("$.itens[3].sucesso").isEqualTo(true)
+                .jsonPath("$.itens[4].mensagem").isEqualTo("Todo não encontrado com id: 999999")
+                .jsonPath("$.sucessos").isEqualTo(3);
+
+        assertThat(todoRepository.count()).isZero();
+    }
+
+    private Statistics estatisticas() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
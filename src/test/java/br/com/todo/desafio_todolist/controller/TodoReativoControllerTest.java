@@ -0,0 +1,107 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.dto.TodoSummaryDTO;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.flyway.url=jdbc:h2:mem:reativo;DB_CLOSE_DELAY=-1",
+    "spring.r2dbc.url=r2dbc:h2:mem:///reativo?options=DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("reactive")
+class TodoReativoControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    void fluxoCompletoComRegrasDeNegocio() {
+        TodoSummaryDTO tarefa = criar(Map.of("nome", "Relatório_anual", "prioridade", 5,
+                "dataVencimento", LocalDateTime.now().minusDays(1).toString()));
+        TodoSummaryDTO subtarefa = criar(Map.of("nome", "coletar dados", "prioridade", 2, "tarefaPaiId", tarefa.getId()));
+        criar(Map.of("nome", "Outra tarefa", "prioridade", 1));
+
+        List<TodoSummaryDTO> filtradas = webTestClient.get()
+                .uri("/todos?nome=o_a&possuiSubtarefas=true&prioridade=5")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(TodoSummaryDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertThat(filtradas).extracting(TodoSummaryDTO::getId).containsExactly(tarefa.getId());
+
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo(tarefa.getId());
+
+        webTestClient.get().uri("/todos/" + tarefa.getId() + "/subtarefas").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$[0].id").isEqualTo(subtarefa.getId());
+
+        webTestClient.patch().uri("/todos/" + tarefa.getId() + "/status?realizado=true").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.message").isEqualTo("Não é possível concluir a tarefa. Existem 1 subtarefa(s) pendente(s).");
+
+        webTestClient.delete().uri("/todos/" + tarefa.getId()).exchange().expectStatus().isBadRequest();
+
+        webTestClient.patch().uri("/todos/" + subtarefa.getId() + "/status?realizado=true").exchange().expectStatus().isOk();
+        webTestClient.patch().uri("/todos/" + tarefa.getId() + "/status?realizado=true").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.realizado").isEqualTo(true);
+
+        webTestClient.delete().uri("/todos/" + subtarefa.getId()).exchange().expectStatus().isNoContent();
+        webTestClient.get().uri("/todos/" + subtarefa.getId()).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void atualizacaoDaTarefa() {
+        TodoSummaryDTO tarefa = criar(Map.of("nome", "rascunho", "prioridade", 1));
+
+        webTestClient.put().uri("/todos/" + tarefa.getId())
+                .bodyValue(Map.of("nome", "revisado", "descricao", "texto final", "prioridade", 4))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.nome").isEqualTo("revisado")
+                .jsonPath("$.descricao").isEqualTo("texto final")
+                .jsonPath("$.prioridade").isEqualTo(4)
+                .jsonPath("$.realizado").isEqualTo(false)
+                .jsonPath("$.dataAtualizacao").exists();
+
+        webTestClient.put().uri("/todos/" + tarefa.getId()).bodyValue(Map.of("nome", "", "prioridade", 9)).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.details.length()").isEqualTo(3);
+
+        webTestClient.put().uri("/todos/999999").bodyValue(Map.of("nome", "sem tarefa", "prioridade", 1)).exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void validacaoDoCorpo() {
+        webTestClient.post().uri("/todos").bodyValue(Map.of("nome", "", "prioridade", 9)).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.details.length()").isEqualTo(3);
+    }
+
+    private TodoSummaryDTO criar(Map<String, Object> corpo) {
+        return webTestClient.post().uri("/todos").bodyValue(corpo).exchange()
+                .expectStatus().isCreated()
+                .expectBody(TodoSummaryDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+}
@@ -0,0 +1,106 @@
+package br.com.todo.desafio_todolist.controller;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+import br.com.todo.desafio_todolist.service.IndiceVencimentos;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+    "spring.datasource.url=jdbc:h2:mem:vencimentos;DB_CLOSE_DELAY=-1"
+})
+class TodoVencimentosControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private IndiceVencimentos indiceVencimentos;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void limpar() {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+        indiceVencimentos.recarregar();
+    }
+
+    @Test
+    void indiceAcompanhaAsAlteracoes() {
+        LocalDateTime agora = LocalDateTime.now();
+        Long vencida = criar("vencida", agora.minusDays(1));
+        Long proxima = criar("proxima", agora.plusDays(2));
+        criar("distante", agora.plusDays(30));
+        criar("sem_vencimento", null);
+
+        webTestClient.post().uri("/todos/{id}/subtarefas", vencida)
+                .bodyValue(Map.of("nome", "subtarefa", "prioridade", 1, "dataVencimento", agora.minusDays(2)))
+                .exchange()
+                .expectStatus().isCreated();
+
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$[*].id").value(contains(vencida.intValue()))
+                .jsonPath("$[0].subtarefas.length()").isEqualTo(1);
+        webTestClient.get().uri("/todos/vencimento-proximo?dias=7").exchange()
+                .expectBody().jsonPath("$[*].id").value(contains(proxima.intValue()));
+
+        // Nova data move a tarefa de faixa; concluída, ela sai do índice
+        webTestClient.put().uri("/todos/{id}", proxima)
+                .bodyValue(Map.of("nome", "proxima", "prioridade", 3, "dataVencimento", agora.minusHours(1)))
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectBody().jsonPath("$[*].id").value(contains(vencida.intValue(), proxima.intValue()));
+
+        webTestClient.patch().uri("/todos/{id}/status?realizado=true", proxima).exchange().expectStatus().isOk();
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectBody().jsonPath("$[*].id").value(contains(vencida.intValue()));
+
+        webTestClient.get().uri("/todos/vencimento-proximo?dias=7").exchange()
+                .expectBody().jsonPath("$").value(empty());
+    }
+
+    @Test
+    void recargaIncluiEscritasFeitasForaDoServico() {
+        Todo todo = todoRepository.save(new Todo("externa", null, false, 2, LocalDateTime.now().minusMinutes(5)));
+
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectBody().jsonPath("$").value(empty());
+
+        indiceVencimentos.recarregar();
+        webTestClient.get().uri("/todos/vencidas").exchange()
+                .expectBody().jsonPath("$[*].id").value(contains(todo.getId().intValue()));
+    }
+
+    private Long criar(String nome, LocalDateTime dataVencimento) {
+        Map<String, Object> corpo = new HashMap<>(Map.of("nome", nome, "prioridade", 3));
+        if (dataVencimento != null) {
+            corpo.put("dataVencimento", dataVencimento);
+        }
+        Map<?, ?> criado = webTestClient.post().uri("/todos").bodyValue(corpo).exchange()
+                .expectStatus().isCreated()
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+        return ((Number) criado.get("id")).longValue();
+    }
+}
@@ -0,0 +1,32 @@
+package br.com.todo.desafio_todolist.repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Registra o SQL gerado pelo Hibernate para que os testes possam inspecioná-lo
+public class SqlCapturado implements StatementInspector {
+
+    private static final List<String> SQLS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        SQLS.add(sql);
+        return sql;
+    }
+
+    public static void limpar() {
+        SQLS.clear();
+    }
+
+    // Consultas simples e as recursivas (WITH RECURSIVE), que também começam com uma leitura
+    public static List<String> consultas() {
+        return SQLS.stream()
+                .filter(sql -> {
+                    String inicio = sql.trim().toLowerCase();
+                    return inicio.startsWith("select") || inicio.startsWith("with");
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,149 @@
+package br.com.todo.desafio_todolist.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import br.com.todo.desafio_todolist.dto.CampoOrdenacao;
+import br.com.todo.desafio_todolist.dto.TodoFiltroDTO;
+import br.com.todo.desafio_todolist.entity.Todo;
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:explain;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.jpa.properties.hibernate.session_factory.statement_inspector=br.com.todo.desafio_todolist.repository.SqlCapturado"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class TodoRepositoryExplainTest {
+
+    private static final List<String> PASSOS_RECURSIVOS = List.of(
+            // Âncora e subida de findNiveis
+            "SELECT id, tarefa_pai_id FROM todos WHERE id IN (?, ?)",
+            "SELECT tarefa_pai_id FROM todos WHERE id = ?",
+            // Âncora e descida de findArvore
+            "SELECT id, tarefa_pai_id, realizado FROM todos WHERE id = ?",
+            "SELECT id, tarefa_pai_id, realizado FROM todos WHERE tarefa_pai_id = ?");
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Map<String, List<String>> consultasPorMetodo = new LinkedHashMap<>();
+
+    @BeforeEach
+    void popularTabela() {
+        // O otimizador do H2 só prefere índices quando a tabela tem volume
+        for (int i = 0; i < 200; i++) {
+            Todo pai = new Todo("tarefa_" + i, null, i % 2 == 0, i % 5 + 1, LocalDateTime.now().plusDays(i % 30 - 15));
+            for (int j = 0; j < 4; j++) {
+                pai.adicionarSubtarefa(new Todo("sub_" + i + "_" + j, null, j % 2 == 0, j + 1));
+            }
+            todoRepository.save(pai);
+        }
+        todoRepository.flush();
+        jdbcTemplate.execute("ANALYZE");
+        SqlCapturado.limpar();
+    }
+
+    @Test
+    void consultasDoRepositorioUsamIndices() {
+        LocalDateTime agora = LocalDateTime.now();
+        Long paiId = todoRepository.findByTarefaPaiIsNull().get(0).getId();
+        TodoFiltroDTO semFiltros = new TodoFiltroDTO();
+
+        consultar("findById", () -> todoRepository.findById(paiId));
+        consultar("findResumoById", () -> todoRepository.findResumoById(paiId));
+        consultar("findByTarefaPaiIsNull", () -> todoRepository.findByTarefaPaiIsNull());
+        consultar("findByRealizadoAndTarefaPaiIsNull", () -> todoRepository.findByRealizadoAndTarefaPaiIsNull(false));
+        consultar("findByPrioridadeAndTarefaPaiIsNull", () -> todoRepository.findByPrioridadeAndTarefaPaiIsNull(3));
+        consultar("findTarefasVencidas", () -> todoRepository.findTarefasVencidas(agora));
+        consultar("findTarefasComVencimentoProximo", () -> todoRepository.findTarefasComVencimentoProximo(agora, agora.plusDays(7)));
+        consultar("findTarefasPendentesComVencimento", () -> todoRepository.findTarefasPendentesComVencimento());
+        consultar("findByTarefaPaiId", () -> todoRepository.findByTarefaPaiId(paiId));
+        consultar("findByTarefaPaiIdIn", () -> todoRepository.findByTarefaPaiIdIn(List.of(paiId, paiId + 1)));
+        consultar("countSubtarefasPendentes", () -> todoRepository.countSubtarefasPendentes(paiId));
+        consultar("existsByTarefaPaiId", () -> todoRepository.existsByTarefaPaiId(paiId));
+        consultar("countSubtarefasPendentesPorTarefaPai", () -> todoRepository.countSubtarefasPendentesPorTarefaPai(List.of(paiId, paiId + 1)));
+        consultar("findSubtarefaIdsByTarefaPaiIdIn", () -> todoRepository.findSubtarefaIdsByTarefaPaiIdIn(List.of(paiId, paiId + 1)));
+        consultar("findNiveis", () -> todoRepository.findNiveis(List.of(paiId, paiId + 1), 50));
+        consultar("findEstatisticasPorPrioridade", () -> todoRepository.findEstatisticasPorPrioridade(agora));
+        consultar("findEstatisticasPorDiaDeCriacao", () -> todoRepository.findEstatisticasPorDiaDeCriacao(agora.minusDays(30), agora));
+        consultar("findEstatisticasPorDiaDeVencimento", () -> todoRepository.findEstatisticasPorDiaDeVencimento(agora.minusDays(30), agora));
+        consultar("findResumos sem filtros", () -> todoRepository.findResumos(TodoSpecifications.comFiltros(semFiltros), PageRequest.of(0, 10, Sort.by("prioridade"))));
+        consultar("findResumos com filtros", () -> todoRepository.findResumos(TodoSpecifications.comFiltros(todosOsFiltros(agora)), PageRequest.of(1, 10)));
+        consultar("findSlice", () -> todoRepository.findSlice(TodoSpecifications.comFiltros(semFiltros), CampoOrdenacao.PRIORIDADE, Sort.Direction.DESC, null, 10));
+        consultar("findArvore", () -> todoRepository.findArvore(paiId, 2, 50));
+
+        // Cada método precisa ter gerado ao menos uma consulta capturada: um filtro que descarte o SQL de algum
+        // deles (ou uma resposta vinda do contexto de persistência) deixaria o plano sem verificação
+        assertThat(consultasPorMetodo).allSatisfy((metodo, sqls) -> assertThat(sqls).as(metodo).isNotEmpty());
+        List<String> consultas = consultasPorMetodo.values().stream().flatMap(List::stream).toList();
+
+        for (String sql : consultas) {
+            String plano = explain(sql);
+            assertThat(plano)
+                    .as("Consulta sem índice:%n%s%nPlano:%n%s", sql, plano)
+                    .doesNotContainIgnoringCase("tableScan");
+        }
+
+        // O EXPLAIN do H2 não detalha os membros de uma CTE recursiva (findNiveis e findArvore): cada passo é
+        // verificado como a consulta equivalente, com o valor do nível anterior como parâmetro
+        for (String passo : PASSOS_RECURSIVOS) {
+            String plano = explain(passo);
+            assertThat(plano)
+                    .as("Passo recursivo sem índice:%n%s%nPlano:%n%s", passo, plano)
+                    .doesNotContainIgnoringCase("tableScan")
+                    .contains("/* PUBLIC.");
+        }
+    }
+
+    // Limpa o contexto de persistência antes da chamada, para que findById também vá ao banco
+    private void consultar(String metodo, Runnable chamada) {
+        entityManager.clear();
+        SqlCapturado.limpar();
+        chamada.run();
+        consultasPorMetodo.put(metodo, SqlCapturado.consultas());
+    }
+
+    private TodoFiltroDTO todosOsFiltros(LocalDateTime agora) {
+        TodoFiltroDTO filtros = new TodoFiltroDTO(false, 3, agora.minusDays(5), agora.plusDays(5));
+        filtros.setNome("tarefa");
+        filtros.setDataCriacaoInicio(agora.minusDays(1));
+        filtros.setDataCriacaoFim(agora.plusDays(1));
+        filtros.setPossuiSubtarefas(true);
+        return filtros;
+    }
+
+    private String explain(String sql) {
+        // Os parâmetros não alteram o índice escolhido pelo H2, basta que estejam preenchidos
+        int parametros = (int) sql.chars().filter(c -> c == '?').count();
+        return jdbcTemplate.query("EXPLAIN " + sql, ps -> {
+            for (int i = 1; i <= parametros; i++) {
+                ps.setObject(i, null);
+            }
+        }, rs -> {
+            StringBuilder plano = new StringBuilder();
+            while (rs.next()) {
+                plano.append(rs.getString(1)).append('\n');
+            }
+            return plano.toString();
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.todo.desafio_todolist.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import br.com.todo.desafio_todolist.entity.Todo;
+import br.com.todo.desafio_todolist.repository.TodoRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:indicebusca;DB_CLOSE_DELAY=-1")
+class IndiceBuscaTest {
+
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IndiceComFalha indice;
+
+    @BeforeEach
+    void criar() throws IOException {
+        jdbcTemplate.update("UPDATE todos SET tarefa_pai_id = NULL");
+        jdbcTemplate.update("DELETE FROM todos");
+        indice = new IndiceComFalha(todoRepository, transactionManager);
+    }
+
+    @AfterEach
+    void encerrar() throws IOException {
+        indice.encerrar();
+    }
+
+    @Test
+    void falhaNaTrocaMantemOIndiceAnterior() {
+        Todo dentista = todoRepository.save(new Todo("Agendar dentista", null, false, 2));
+        indice.reindexar();
+        // Aplicada depois do último commit: também precisa sobreviver ao rollback
+        Todo boleto = todoRepository.save(new Todo("Pagar boleto", null, false, 2));
+        indice.atualizar(boleto);
+
+        todoRepository.save(new Todo("Comprar café", null, false, 2));
+        indice.falhar = true;
+        assertThatThrownBy(indice::reindexar).isInstanceOf(UncheckedIOException.class);
+
+        assertThat(indice.buscar("dentista")).containsExactly(dentista.getId());
+
+        // A alteração seguinte atualiza os leitores: a limpeza da troca que falhou não pode aparecer
+        Todo fatura = todoRepository.save(new Todo("Pagar fatura", null, false, 2));
+        indice.atualizar(fatura);
+        assertThat(indice.buscar("fatura")).containsExactly(fatura.getId());
+        assertThat(indice.buscar("dentista")).containsExactly(dentista.getId());
+        assertThat(indice.buscar("boleto")).containsExactly(boleto.getId());
+        assertThat(indice.buscar("cafe")).isEmpty();
+
+        // A próxima reindexação funciona sobre o escritor reaberto
+
+        indice.falhar = false;
+        assertThat(indice.reindexar()).isEqualTo(4);
+        assertThat(indice.buscar("cafe")).hasSize(1);
+    }
+
+    // Deixa o índice novo com a trava de escrita aberta: o addIndexes da troca não consegue obtê-la
+    private static class IndiceComFalha extends IndiceBusca {
+
+        boolean falhar;
+
+        IndiceComFalha(TodoRepository todoRepository, PlatformTransactionManager transactionManager) throws IOException {
+            super(todoRepository, transactionManager, "", 1000, new SimpleMeterRegistry());
+        }
+
+        @Override
+        int construir(Directory destino) throws IOException {
+            int total = super.construir(destino);
+            if (falhar) {
+                new IndexWriter(destino, new IndexWriterConfig());
+            }
+            return total;
+        }
+    }
+}